@@ -9,38 +9,59 @@ import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.nodeTypes.NodeWithStatements;
 import com.github.javaparser.ast.stmt.*;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.Type;
 import com.github.javaparser.ast.type.UnknownType;
+import com.github.javaparser.ast.type.WildcardType;
 import com.github.javaparser.StaticJavaParser;
 import com.google.auto.service.AutoService;
 import io.nozdormu.common.ProcessorManager;
 import io.nozdormu.inject.processor.ComponentProxyProcessor;
 import io.nozdormu.spi.async.Async;
+import io.nozdormu.spi.async.AsyncValues;
 import io.nozdormu.spi.async.Asyncable;
+import io.nozdormu.spi.async.BatchLoader;
+import io.nozdormu.spi.async.Batched;
 import io.nozdormu.spi.error.InjectionProcessException;
 import jakarta.inject.Provider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
 
 import static com.github.javaparser.ast.expr.BinaryExpr.Operator.EQUALS;
 import static com.github.javaparser.ast.expr.BinaryExpr.Operator.NOT_EQUALS;
 import static io.nozdormu.spi.async.Asyncable.ASYNC_METHOD_NAME_SUFFIX;
+import static io.nozdormu.spi.error.InjectionProcessErrorType.ANNOTATION_VALUE_NOT_CONSTANT;
+import static io.nozdormu.spi.error.InjectionProcessErrorType.ASYNC_SCHEDULER_NOT_SUPPORTED;
+import static io.nozdormu.spi.error.InjectionProcessErrorType.BATCHED_BULK_METHOD_NOT_EXIST;
+import static io.nozdormu.spi.error.InjectionProcessErrorType.BATCHED_METHOD_NOT_SUPPORTED;
 import static io.nozdormu.spi.error.InjectionProcessErrorType.VARIABLE_DECLARATOR_NOT_EXIST;
 
 @AutoService(ComponentProxyProcessor.class)
@@ -48,15 +69,98 @@ public class AsyncComponentProcessor implements ComponentProxyProcessor {
 
   private static final Logger logger = LoggerFactory.getLogger(AsyncComponentProcessor.class);
 
+  private static final String ASYNC_UNCHECKED_CAST_OPTION = "asyncUncheckedCast";
+
+  private static final String ASYNC_BLOCKING_CALL_OPTION = "asyncBlockingCall";
+
+  private static final Set<String> JDBC_STATEMENT_METHODS =
+      Set.of(
+          "execute",
+          "executeQuery",
+          "executeUpdate",
+          "executeLargeUpdate",
+          "executeBatch",
+          "executeLargeBatch");
+
+  private static final Map<String, Set<String>> BLOCKING_METHODS =
+      Map.ofEntries(
+          Map.entry(Thread.class.getName(), Set.of("sleep", "join")),
+          Map.entry(Mono.class.getName(), Set.of("block", "blockOptional")),
+          Map.entry(
+              Flux.class.getName(), Set.of("blockFirst", "blockLast", "toIterable", "toStream")),
+          Map.entry("java.util.concurrent.Future", Set.of("get")),
+          Map.entry("java.util.concurrent.CompletableFuture", Set.of("get", "join")),
+          Map.entry("java.util.concurrent.CountDownLatch", Set.of("await")),
+          Map.entry("java.sql.DriverManager", Set.of("getConnection")),
+          Map.entry("javax.sql.DataSource", Set.of("getConnection")),
+          Map.entry(
+              "java.sql.Connection",
+              Set.of("prepareStatement", "prepareCall", "createStatement", "commit", "rollback")),
+          Map.entry("java.sql.Statement", JDBC_STATEMENT_METHODS),
+          Map.entry("java.sql.PreparedStatement", JDBC_STATEMENT_METHODS),
+          Map.entry("java.sql.CallableStatement", JDBC_STATEMENT_METHODS),
+          Map.entry("java.sql.ResultSet", Set.of("next")));
+
+  private static final Set<String> BLOCKING_METHOD_NAMES =
+      BLOCKING_METHODS.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+
+  private enum BlockingCallMode {
+    IGNORE,
+    WARNING,
+    ERROR,
+    WRAP
+  }
+
+  private static final Set<String> ASYNC_SCHEDULERS =
+      Set.of("boundedElastic", "parallel", "single", "immediate");
+
   private ProcessorManager processorManager;
+  private boolean uncheckedCast;
+  private BlockingCallMode blockingCallMode;
+  private PrimitiveType asyncPrimitiveReturnType;
   private final Map<String, String> methodReturnTypeNameCache = new HashMap<>();
   private final Map<String, String> methodReturnTypeDescribeCache = new HashMap<>();
   private final Map<String, List<String>> methodParameterTypeNamesCache = new HashMap<>();
   private final Map<String, String> scopeQualifiedNameCache = new HashMap<>();
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Set.of(ASYNC_UNCHECKED_CAST_OPTION, ASYNC_BLOCKING_CALL_OPTION);
+  }
+
   @Override
   public void init(ProcessorManager processorManager) {
     this.processorManager = processorManager;
+    this.uncheckedCast =
+        processorManager
+            .getOption(ASYNC_UNCHECKED_CAST_OPTION)
+            .map(Boolean::parseBoolean)
+            .orElse(false);
+    this.blockingCallMode =
+        processorManager
+            .getOption(ASYNC_BLOCKING_CALL_OPTION)
+            .map(this::getBlockingCallMode)
+            .orElse(BlockingCallMode.WARNING);
+  }
+
+  private BlockingCallMode getBlockingCallMode(String option) {
+    return Arrays.stream(BlockingCallMode.values())
+        .filter(mode -> mode.name().equalsIgnoreCase(option))
+        .findFirst()
+        .orElseGet(
+            () -> {
+              processorManager.printMessage(
+                  Diagnostic.Kind.ERROR,
+                  "invalid -A"
+                      + ASYNC_BLOCKING_CALL_OPTION
+                      + "="
+                      + option
+                      + ", expected one of "
+                      + Arrays.stream(BlockingCallMode.values())
+                          .map(mode -> mode.name().toLowerCase(Locale.ROOT))
+                          .collect(Collectors.joining(", ")));
+              return BlockingCallMode.WARNING;
+            });
   }
 
   @Override
@@ -145,24 +249,28 @@ public class AsyncComponentProcessor implements ComponentProxyProcessor {
                         .forEach(asyncMethodDeclaration::addTypeParameter);
 
                     String defaultIfEmpty =
-                        methodDeclaration
-                            .getAnnotationByClass(Async.class)
-                            .filter((Expression::isNormalAnnotationExpr))
-                            .flatMap(
-                                annotationExpr ->
-                                    annotationExpr.asNormalAnnotationExpr().getPairs().stream()
-                                        .filter(
-                                            memberValuePair ->
-                                                memberValuePair
-                                                    .getNameAsString()
-                                                    .equals("defaultIfEmpty"))
-                                        .findFirst())
-                            .map(
-                                memberValuePair ->
-                                    memberValuePair.getValue().asStringLiteralExpr().asString())
+                        getAnnotationConstant(methodDeclaration, Async.class, "defaultIfEmpty")
+                            .map(String::valueOf)
+                            .filter(value -> !value.isEmpty())
                             .orElse(null);
-                    NodeList<Statement> statements =
-                        buildAsyncStatements(methodBody.getStatements(), defaultIfEmpty);
+                    if (methodDeclaration.getType().isPrimitiveType()) {
+                      componentProxyCompilationUnit.addImport(AsyncValues.class);
+                      asyncPrimitiveReturnType = methodDeclaration.getType().asPrimitiveType();
+                    } else {
+                      asyncPrimitiveReturnType = null;
+                    }
+                    // rewrites work on an attached copy, the component method keeps its body
+                    BlockStmt asyncBody = methodBody.clone();
+                    methodDeclaration.setBody(asyncBody);
+                    NodeList<Statement> statements;
+                    try {
+                      checkBlockingCalls(
+                          methodDeclaration, asyncBody, componentProxyCompilationUnit);
+                      statements = buildAsyncStatements(asyncBody.getStatements(), defaultIfEmpty);
+                    } finally {
+                      methodDeclaration.setBody(methodBody);
+                      asyncPrimitiveReturnType = null;
+                    }
                     if (methodDeclaration.getType().isVoidType()) {
                       asyncMethodDeclaration.createBody().setStatements(statements);
                     } else {
@@ -205,30 +313,9 @@ public class AsyncComponentProcessor implements ComponentProxyProcessor {
                                                     expression ->
                                                         (Statement)
                                                             new ReturnStmt(
-                                                                new MethodCallExpr("map")
-                                                                    .addArgument(
-                                                                        new LambdaExpr()
-                                                                            .addParameter(
-                                                                                new Parameter(
-                                                                                    new UnknownType(),
-                                                                                    "object"))
-                                                                            .setBody(
-                                                                                new ExpressionStmt(
-                                                                                    new CastExpr()
-                                                                                        .setType(
-                                                                                            methodDeclaration
-                                                                                                    .getType()
-                                                                                                    .isPrimitiveType()
-                                                                                                ? methodDeclaration
-                                                                                                    .getType()
-                                                                                                    .asPrimitiveType()
-                                                                                                    .toBoxedType()
-                                                                                                : methodDeclaration
-                                                                                                    .getType())
-                                                                                        .setExpression(
-                                                                                            new NameExpr(
-                                                                                                "object")))))
-                                                                    .setScope(expression)))
+                                                                buildReturnCastExpression(
+                                                                    expression,
+                                                                    methodDeclaration.getType())))
                                                 .orElse(statement);
                                           }
                                         }
@@ -236,6 +323,16 @@ public class AsyncComponentProcessor implements ComponentProxyProcessor {
                                       })
                                   .collect(Collectors.toCollection(NodeList::new)));
                     }
+                    if (methodDeclaration.isAnnotationPresent(Batched.class)) {
+                      applyBatched(
+                          componentClassDeclaration,
+                          methodDeclaration,
+                          asyncMethodDeclaration,
+                          componentProxyCompilationUnit,
+                          componentProxyClassDeclaration);
+                    }
+                    applyAsyncOperators(
+                        methodDeclaration, asyncMethodDeclaration, componentProxyCompilationUnit);
                   });
         });
     buildAsyncMethodDeclaration(componentClassDeclaration, asyncMethods)
@@ -245,6 +342,559 @@ public class AsyncComponentProcessor implements ComponentProxyProcessor {
     return true;
   }
 
+  private void checkBlockingCalls(
+      MethodDeclaration methodDeclaration,
+      BlockStmt methodBody,
+      CompilationUnit componentProxyCompilationUnit) {
+    if (blockingCallMode == BlockingCallMode.IGNORE) {
+      return;
+    }
+    List<MethodCallExpr> blockingCalls =
+        methodBody.findAll(MethodCallExpr.class).stream()
+            .filter(
+                methodCallExpr ->
+                    BLOCKING_METHOD_NAMES.contains(methodCallExpr.getNameAsString()))
+            .filter(
+                methodCallExpr ->
+                    methodCallExpr.hasScope()
+                        || !methodCallExpr.getNameAsString().equals("await"))
+            .filter(methodCallExpr -> !isScheduled(methodCallExpr))
+            .filter(
+                methodCallExpr ->
+                    processorManager
+                        .resolveMethodCallDeclaringTypeQualifiedName(methodCallExpr)
+                        .map(
+                            declaringType ->
+                                BLOCKING_METHODS
+                                    .getOrDefault(declaringType, Collections.emptySet())
+                                    .contains(methodCallExpr.getNameAsString()))
+                        .orElse(false))
+            .collect(Collectors.toList());
+
+    for (MethodCallExpr blockingCall : blockingCalls) {
+      String message =
+          "blocking call " + blockingCall + " in @Async method " + methodDeclaration.getSignature();
+      if (blockingCallMode == BlockingCallMode.WRAP) {
+        if (wrapBlockingCall(blockingCall, componentProxyCompilationUnit)) {
+          logger.info("{} wrapped", message);
+          continue;
+        }
+        message = message + " can't be wrapped, move it to a statement of its own";
+      }
+      processorManager.printMessage(
+          blockingCallMode == BlockingCallMode.ERROR
+              ? Diagnostic.Kind.ERROR
+              : Diagnostic.Kind.WARNING,
+          message);
+    }
+  }
+
+  private boolean isScheduled(MethodCallExpr methodCallExpr) {
+    Optional<Node> parentNode = methodCallExpr.getParentNode();
+    while (parentNode.isPresent()) {
+      Node node = parentNode.get();
+      if (node instanceof MethodCallExpr
+          && (((MethodCallExpr) node).getNameAsString().equals("subscribeOn")
+              || ((MethodCallExpr) node).getNameAsString().equals("publishOn"))) {
+        return true;
+      }
+      if (node instanceof BodyDeclaration) {
+        return false;
+      }
+      parentNode = node.getParentNode();
+    }
+    return false;
+  }
+
+  private boolean wrapBlockingCall(
+      MethodCallExpr blockingCall, CompilationUnit componentProxyCompilationUnit) {
+    Node parentNode = blockingCall.getParentNode().orElse(null);
+    boolean isStatement = parentNode instanceof ExpressionStmt;
+    boolean isInitializer =
+        parentNode instanceof VariableDeclarator
+            && ((VariableDeclarator) parentNode)
+                .getInitializer()
+                .filter(initializer -> initializer == blockingCall)
+                .isPresent()
+            && parentNode
+                .getParentNode()
+                .flatMap(Node::getParentNode)
+                .filter(node -> node instanceof ExpressionStmt)
+                .isPresent();
+    boolean isAssignValue =
+        parentNode instanceof AssignExpr
+            && ((AssignExpr) parentNode).getValue() == blockingCall
+            && parentNode
+                .getParentNode()
+                .filter(node -> node instanceof ExpressionStmt)
+                .isPresent();
+    if (!isStatement && !isInitializer && !isAssignValue) {
+      return false;
+    }
+
+    MethodCallExpr awaitMethodCallExpr = new MethodCallExpr("await");
+    blockingCall.replace(awaitMethodCallExpr);
+    MethodCallExpr publisher = buildBlockingCallPublisher(blockingCall, isStatement);
+    awaitMethodCallExpr.addArgument(publisher);
+    if (publisher.getNameAsString().equals("subscribeOn")) {
+      componentProxyCompilationUnit.addImport(Schedulers.class);
+    }
+    methodReturnTypeNameCache.put(publisher.toString(), Mono.class.getCanonicalName());
+    publisher
+        .getScope()
+        .ifPresent(
+            scope -> scopeQualifiedNameCache.put(scope.toString(), Mono.class.getCanonicalName()));
+    return true;
+  }
+
+  private MethodCallExpr buildBlockingCallPublisher(
+      MethodCallExpr blockingCall, boolean isStatement) {
+    String name = blockingCall.getNameAsString();
+    Optional<Expression> scope = blockingCall.getScope();
+    MethodCallExpr publisher;
+    if (scope.isPresent() && name.equals("block")) {
+      publisher =
+          scope.get().isMethodCallExpr()
+              ? scope.get().asMethodCallExpr()
+              : new MethodCallExpr("from")
+                  .setScope(new NameExpr(Mono.class.getSimpleName()))
+                  .addArgument(scope.get());
+    } else if (scope.isPresent() && name.equals("blockFirst")) {
+      publisher = new MethodCallExpr("next").setScope(scope.get());
+    } else if (scope.isPresent() && name.equals("blockLast")) {
+      publisher =
+          new MethodCallExpr("next")
+              .setScope(
+                  new MethodCallExpr("takeLast")
+                      .setScope(scope.get())
+                      .addArgument(new IntegerLiteralExpr("1")));
+    } else {
+      LambdaExpr callable =
+          isStatement
+              ? new LambdaExpr()
+                  .setEnclosingParameters(true)
+                  .setBody(
+                      new BlockStmt()
+                          .addStatement(blockingCall)
+                          .addStatement(new ReturnStmt(new NullLiteralExpr())))
+              : new LambdaExpr()
+                  .setEnclosingParameters(true)
+                  .setBody(new ExpressionStmt(blockingCall));
+      return new MethodCallExpr("subscribeOn")
+          .setScope(
+              new MethodCallExpr("fromCallable")
+                  .setScope(new NameExpr(Mono.class.getSimpleName()))
+                  .addArgument(callable))
+          .addArgument(
+              new MethodCallExpr("boundedElastic")
+                  .setScope(new NameExpr(Schedulers.class.getSimpleName())));
+    }
+    if (blockingCall.getArguments().isNonEmpty()) {
+      publisher =
+          new MethodCallExpr("timeout")
+              .setScope(publisher)
+              .addArgument(blockingCall.getArgument(0));
+    }
+    return publisher;
+  }
+
+  private Expression buildReturnCastExpression(Expression expression, Type returnType) {
+    if (expression.isMethodCallExpr()
+        && expression.asMethodCallExpr().getNameAsString().equals("just")
+        && expression
+            .asMethodCallExpr()
+            .getScope()
+            .filter(Expression::isNameExpr)
+            .map(scope -> scope.asNameExpr().getNameAsString())
+            .filter(
+                name ->
+                    name.equals(Mono.class.getSimpleName())
+                        || name.equals(AsyncValues.class.getSimpleName()))
+            .isPresent()) {
+      return expression;
+    }
+    Type castType =
+        returnType.isPrimitiveType()
+            ? returnType.asPrimitiveType().toBoxedType()
+            : returnType.clone();
+    if (uncheckedCast) {
+      return new CastExpr()
+          .setType(
+              new ClassOrInterfaceType()
+                  .setName(Mono.class.getSimpleName())
+                  .setTypeArguments(castType))
+          .setExpression(
+              new CastExpr()
+                  .setType(
+                      new ClassOrInterfaceType()
+                          .setName(Mono.class.getSimpleName())
+                          .setTypeArguments(new WildcardType()))
+                  .setExpression(expression));
+    }
+    return new MethodCallExpr("map")
+        .addArgument(
+            new LambdaExpr()
+                .addParameter(new Parameter(new UnknownType(), "object"))
+                .setBody(
+                    new ExpressionStmt(
+                        new CastExpr().setType(castType).setExpression(new NameExpr("object")))))
+        .setScope(expression);
+  }
+
+  private void applyAsyncOperators(
+      MethodDeclaration methodDeclaration,
+      MethodDeclaration asyncMethodDeclaration,
+      CompilationUnit componentProxyCompilationUnit) {
+    Optional<Long> timeout =
+        getAnnotationConstant(methodDeclaration, Async.class, "timeout")
+            .filter(Number.class::isInstance)
+            .map(value -> ((Number) value).longValue())
+            .filter(value -> value != 0);
+    Optional<String> timeoutUnit =
+        getAnnotationConstant(methodDeclaration, Async.class, "timeoutUnit")
+            .map(
+                value ->
+                    value instanceof VariableElement
+                        ? ((VariableElement) value).getSimpleName().toString()
+                        : value.toString());
+    Optional<String> scheduler =
+        getAnnotationConstant(methodDeclaration, Async.class, "scheduler")
+            .map(String::valueOf)
+            .filter(name -> !name.isEmpty());
+    if (timeout.isEmpty() && scheduler.isEmpty()) {
+      return;
+    }
+
+    Expression asyncMonoExpr = new NameExpr("asyncMono");
+    if (timeout.isPresent()) {
+      componentProxyCompilationUnit.addImport(Duration.class);
+      Expression timeoutExpr = new LongLiteralExpr(timeout.get() + "L");
+      if (timeoutUnit.isPresent()) {
+        componentProxyCompilationUnit.addImport(TimeUnit.class);
+      }
+      MethodCallExpr durationExpr =
+          timeoutUnit
+              .map(
+                  unit ->
+                      new MethodCallExpr("of")
+                          .setScope(new NameExpr(Duration.class.getSimpleName()))
+                          .addArgument(timeoutExpr)
+                          .addArgument(
+                              new MethodCallExpr("toChronoUnit")
+                                  .setScope(
+                                      new FieldAccessExpr(
+                                          new NameExpr(TimeUnit.class.getSimpleName()), unit))))
+              .orElseGet(
+                  () ->
+                      new MethodCallExpr("ofMillis")
+                          .setScope(new NameExpr(Duration.class.getSimpleName()))
+                          .addArgument(timeoutExpr));
+      asyncMonoExpr =
+          new MethodCallExpr("timeout").setScope(asyncMonoExpr).addArgument(durationExpr);
+    }
+    if (scheduler.isPresent()) {
+      if (!ASYNC_SCHEDULERS.contains(scheduler.get())) {
+        throw new InjectionProcessException(
+            ASYNC_SCHEDULER_NOT_SUPPORTED.bind(
+                scheduler.get(), methodDeclaration.getDeclarationAsString()));
+      }
+      componentProxyCompilationUnit.addImport(Schedulers.class);
+      asyncMonoExpr =
+          new MethodCallExpr("subscribeOn")
+              .setScope(asyncMonoExpr)
+              .addArgument(
+                  new MethodCallExpr(scheduler.get())
+                      .setScope(new NameExpr(Schedulers.class.getSimpleName())));
+    }
+
+    BlockStmt asyncBody =
+        asyncMethodDeclaration.getBody().orElseGet(asyncMethodDeclaration::createBody);
+    VariableDeclarationExpr asyncMonoDeclarationExpr =
+        new VariableDeclarationExpr(
+            new VariableDeclarator()
+                .setType(asyncMethodDeclaration.getType().clone())
+                .setName("asyncMono")
+                .setInitializer(
+                    new MethodCallExpr("defer")
+                        .setScope(new NameExpr(Mono.class.getSimpleName()))
+                        .addArgument(
+                            new LambdaExpr()
+                                .setEnclosingParameters(true)
+                                .setBody(new BlockStmt(asyncBody.getStatements())))));
+    asyncMethodDeclaration.setBody(
+        new BlockStmt()
+            .addStatement(asyncMonoDeclarationExpr)
+            .addStatement(new ReturnStmt(asyncMonoExpr)));
+  }
+
+  private void applyBatched(
+      ClassOrInterfaceDeclaration componentClassDeclaration,
+      MethodDeclaration methodDeclaration,
+      MethodDeclaration asyncMethodDeclaration,
+      CompilationUnit componentProxyCompilationUnit,
+      ClassOrInterfaceDeclaration componentProxyClassDeclaration) {
+    if (asyncMethodDeclaration.getParameters().size() != 1
+        || methodDeclaration.getType().isVoidType()) {
+      throw new InjectionProcessException(
+          BATCHED_METHOD_NOT_SUPPORTED.bind(methodDeclaration.getDeclarationAsString()));
+    }
+    Optional<String> bulkMethodName =
+        getAnnotationConstant(methodDeclaration, Batched.class, "bulkMethod")
+            .map(String::valueOf)
+            .filter(name -> !name.isEmpty());
+    Parameter keyParameter = asyncMethodDeclaration.getParameter(0);
+    Type keyType =
+        keyParameter.getType().isPrimitiveType()
+            ? keyParameter.getType().asPrimitiveType().toBoxedType()
+            : keyParameter.getType();
+    Type valueType =
+        asyncMethodDeclaration
+            .getType()
+            .asClassOrInterfaceType()
+            .getTypeArguments()
+            .orElseThrow()
+            .get(0);
+
+    MethodDeclaration bulkMethodDeclaration =
+        componentClassDeclaration.getMethods().stream()
+            .filter(bulkMethod -> bulkMethod != methodDeclaration)
+            .filter(
+                bulkMethod ->
+                    bulkMethodName
+                        .map(name -> bulkMethod.getNameAsString().equals(name))
+                        .orElse(true))
+            .filter(
+                bulkMethod ->
+                    bulkMethod.getParameters().size() == 1
+                        && isBulkKeysType(bulkMethod.getParameter(0).getType(), keyType))
+            .filter(
+                bulkMethod ->
+                    isBulkResultType(bulkMethod.getType(), keyType, valueType)
+                        || isMonoType(bulkMethod.getType())
+                            && isBulkResultType(
+                                getFirstTypeArgument(bulkMethod.getType()), keyType, valueType))
+            .findFirst()
+            .orElseThrow(
+                () ->
+                    new InjectionProcessException(
+                        BATCHED_BULK_METHOD_NOT_EXIST.bind(
+                            methodDeclaration.getDeclarationAsString())));
+
+    MethodCallExpr bulkMethodCallExpr =
+        bulkMethodDeclaration.isAnnotationPresent(Async.class)
+            ? new MethodCallExpr(
+                    bulkMethodDeclaration.getNameAsString()
+                        + ASYNC_METHOD_NAME_SUFFIX
+                        + "_"
+                        + bulkMethodDeclaration
+                            .getParameter(0)
+                            .getType()
+                            .asClassOrInterfaceType()
+                            .getNameAsString())
+                .addArgument(new NameExpr("keys"))
+            : new MethodCallExpr(bulkMethodDeclaration.getNameAsString())
+                .addArgument(new NameExpr("keys"));
+    Expression bulkLoaderExpr;
+    if (bulkMethodDeclaration.isAnnotationPresent(Async.class)
+        || isMonoType(bulkMethodDeclaration.getType())) {
+      bulkLoaderExpr = bulkMethodCallExpr;
+    } else {
+      // a synchronous bulk method may block, keep it off the flush scheduler
+      componentProxyCompilationUnit.addImport(Schedulers.class);
+      bulkLoaderExpr =
+          new MethodCallExpr("subscribeOn")
+              .setScope(
+                  new MethodCallExpr("fromCallable")
+                      .setScope(new NameExpr(Mono.class.getSimpleName()))
+                      .addArgument(
+                          new LambdaExpr()
+                              .setEnclosingParameters(true)
+                              .setBody(new ExpressionStmt(bulkMethodCallExpr))))
+              .addArgument(
+                  new MethodCallExpr("boundedElastic")
+                      .setScope(new NameExpr(Schedulers.class.getSimpleName())));
+    }
+
+    Expression maxSize =
+        getAnnotationConstant(methodDeclaration, Batched.class, "maxSize")
+            .filter(Number.class::isInstance)
+            .<Expression>map(value -> new IntegerLiteralExpr(String.valueOf(value)))
+            .orElseGet(
+                () ->
+                    new FieldAccessExpr()
+                        .setScope(new NameExpr(BatchLoader.class.getSimpleName()))
+                        .setName("DEFAULT_MAX_SIZE"));
+    Expression maxDelay =
+        getAnnotationConstant(methodDeclaration, Batched.class, "maxDelay")
+            .filter(Number.class::isInstance)
+            .<Expression>map(value -> new LongLiteralExpr(((Number) value).longValue() + "L"))
+            .orElseGet(
+                () ->
+                    new FieldAccessExpr()
+                        .setScope(new NameExpr(BatchLoader.class.getSimpleName()))
+                        .setName("DEFAULT_MAX_DELAY"));
+
+    componentProxyCompilationUnit.addImport(BatchLoader.class);
+    String batchLoaderName = asyncMethodDeclaration.getNameAsString() + "_batchLoader";
+    componentProxyClassDeclaration.addFieldWithInitializer(
+        new ClassOrInterfaceType()
+            .setName(BatchLoader.class.getSimpleName())
+            .setTypeArguments(keyType.clone(), valueType.clone()),
+        batchLoaderName,
+        new ObjectCreationExpr()
+            .setType(
+                new ClassOrInterfaceType()
+                    .setName(BatchLoader.class.getSimpleName())
+                    .setTypeArguments(new NodeList<>()))
+            .addArgument(maxSize)
+            .addArgument(maxDelay)
+            .addArgument(
+                new LambdaExpr()
+                    .addParameter(new Parameter(new UnknownType(), "keys"))
+                    .setBody(new ExpressionStmt(bulkLoaderExpr))),
+        Modifier.Keyword.PRIVATE,
+        Modifier.Keyword.FINAL);
+    asyncMethodDeclaration.setBody(
+        new BlockStmt()
+            .addStatement(
+                new ReturnStmt(
+                    new MethodCallExpr("load")
+                        .setScope(new NameExpr(batchLoaderName))
+                        .addArgument(new NameExpr(keyParameter.getNameAsString())))));
+  }
+
+  private boolean isBulkKeysType(Type type, Type keyType) {
+    return type.isClassOrInterfaceType()
+        && Set.of(
+                List.class.getSimpleName(),
+                Collection.class.getSimpleName(),
+                Iterable.class.getSimpleName())
+            .contains(type.asClassOrInterfaceType().getNameAsString())
+        && type.asClassOrInterfaceType().getTypeArguments().stream()
+            .anyMatch(
+                typeArguments ->
+                    typeArguments.size() == 1 && typeArguments.get(0).equals(keyType));
+  }
+
+  private boolean isBulkResultType(Type type, Type keyType, Type valueType) {
+    return type != null
+        && type.isClassOrInterfaceType()
+        && type.asClassOrInterfaceType().getNameAsString().equals(Map.class.getSimpleName())
+        && type.asClassOrInterfaceType().getTypeArguments().stream()
+            .anyMatch(
+                typeArguments ->
+                    typeArguments.size() == 2
+                        && typeArguments.get(0).equals(keyType)
+                        && typeArguments.get(1).equals(valueType));
+  }
+
+  private boolean isMonoType(Type type) {
+    return type.isClassOrInterfaceType()
+        && type.asClassOrInterfaceType().getNameAsString().equals(Mono.class.getSimpleName());
+  }
+
+  private Type getFirstTypeArgument(Type type) {
+    return type.asClassOrInterfaceType().getTypeArguments().stream()
+        .filter(typeArguments -> typeArguments.size() == 1)
+        .map(typeArguments -> typeArguments.get(0))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private Optional<Expression> getAnnotationMemberValue(
+      NormalAnnotationExpr annotationExpr, String name) {
+    return annotationExpr.getPairs().stream()
+        .filter(memberValuePair -> memberValuePair.getNameAsString().equals(name))
+        .findFirst()
+        .map(MemberValuePair::getValue);
+  }
+
+  /**
+   * Reads an annotation member through the element API so constant references are folded by javac,
+   * literals in the source are the fallback when the method element can't be found.
+   */
+  private Optional<Object> getAnnotationConstant(
+      MethodDeclaration methodDeclaration,
+      Class<? extends Annotation> annotationClass,
+      String name) {
+    Optional<Expression> expression =
+        methodDeclaration
+            .getAnnotationByClass(annotationClass)
+            .filter(Expression::isNormalAnnotationExpr)
+            .flatMap(
+                annotationExpr ->
+                    getAnnotationMemberValue(annotationExpr.asNormalAnnotationExpr(), name));
+    if (expression.isEmpty()) {
+      return Optional.empty();
+    }
+    Optional<Object> value =
+        getMethodElement(methodDeclaration)
+            .flatMap(
+                executableElement ->
+                    processorManager.getExplicitAnnotationValue(
+                        executableElement, annotationClass.getCanonicalName(), name))
+            .map(AnnotationValue::getValue);
+    if (value.isPresent()) {
+      return value;
+    }
+    Expression literal = expression.get();
+    if (literal.isStringLiteralExpr()) {
+      return Optional.of(literal.asStringLiteralExpr().asString());
+    } else if (literal.isIntegerLiteralExpr()) {
+      return Optional.of(literal.asIntegerLiteralExpr().asNumber());
+    } else if (literal.isLongLiteralExpr()) {
+      return Optional.of(literal.asLongLiteralExpr().asNumber());
+    } else if (literal.isFieldAccessExpr() && isEnumMember(annotationClass, name)) {
+      return Optional.of(literal.asFieldAccessExpr().getNameAsString());
+    } else if (literal.isNameExpr() && isEnumMember(annotationClass, name)) {
+      return Optional.of(literal.asNameExpr().getNameAsString());
+    }
+    throw new InjectionProcessException(
+        ANNOTATION_VALUE_NOT_CONSTANT.bind(
+            name, annotationClass.getSimpleName(), methodDeclaration.getDeclarationAsString()));
+  }
+
+  private boolean isEnumMember(Class<? extends Annotation> annotationClass, String name) {
+    try {
+      return annotationClass.getMethod(name).getReturnType().isEnum();
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private Optional<ExecutableElement> getMethodElement(MethodDeclaration methodDeclaration) {
+    return methodDeclaration
+        .findAncestor(ClassOrInterfaceDeclaration.class)
+        .flatMap(ClassOrInterfaceDeclaration::getFullyQualifiedName)
+        .flatMap(processorManager::getTypeElement)
+        .flatMap(
+            typeElement ->
+                typeElement.getEnclosedElements().stream()
+                    .filter(element -> element.getKind() == ElementKind.METHOD)
+                    .map(element -> (ExecutableElement) element)
+                    .filter(
+                        executableElement ->
+                            executableElement
+                                .getSimpleName()
+                                .contentEquals(methodDeclaration.getNameAsString()))
+                    .filter(
+                        executableElement ->
+                            executableElement.getParameters().size()
+                                    == methodDeclaration.getParameters().size()
+                                && IntStream.range(0, methodDeclaration.getParameters().size())
+                                    .allMatch(
+                                        index ->
+                                            executableElement
+                                                .getParameters()
+                                                .get(index)
+                                                .getSimpleName()
+                                                .contentEquals(
+                                                    methodDeclaration
+                                                        .getParameter(index)
+                                                        .getNameAsString())))
+                    .findFirst());
+  }
+
   private String resolveMethodReturnTypeQualifiedName(MethodCallExpr methodCallExpr) {
     return methodReturnTypeNameCache.computeIfAbsent(
         methodCallExpr.toString(),
@@ -2420,6 +3070,14 @@ public class AsyncComponentProcessor implements ComponentProxyProcessor {
                 return new MethodCallExpr("empty")
                     .setScope(new NameExpr(Mono.class.getSimpleName()));
               }
+              if (asyncPrimitiveReturnType != null) {
+                return new MethodCallExpr("just")
+                    .addArgument(
+                        new CastExpr()
+                            .setType(asyncPrimitiveReturnType.clone())
+                            .setExpression(new EnclosedExpr(expression)))
+                    .setScope(new NameExpr(AsyncValues.class.getSimpleName()));
+              }
               return new MethodCallExpr("just")
                   .addArgument(expression)
                   .setScope(new NameExpr(Mono.class.getSimpleName()));
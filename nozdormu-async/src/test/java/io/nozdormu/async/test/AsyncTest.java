@@ -1,19 +1,74 @@
 package io.nozdormu.async.test;
 
 import io.nozdormu.async.test.beans.User;
+import io.nozdormu.async.test.beans.UserInfo;
 import io.nozdormu.async.test.beans.UserService;
+import io.nozdormu.inject.processor.InjectProcessor;
+import io.nozdormu.spi.async.AsyncValues;
+import io.nozdormu.spi.async.BatchLoader;
 import io.nozdormu.spi.context.BeanContext;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AsyncTest {
 
+  private static final String SLEEP_SERVICE =
+      String.join(
+          System.lineSeparator(),
+          "package io.nozdormu.async.check;",
+          "",
+          "import io.nozdormu.spi.async.Async;",
+          "import io.nozdormu.spi.async.Asyncable;",
+          "import jakarta.enterprise.context.ApplicationScoped;",
+          "import reactor.core.publisher.Mono;",
+          "import reactor.core.scheduler.Schedulers;",
+          "",
+          "@ApplicationScoped",
+          "public class SleepService implements Asyncable {",
+          "",
+          "  @Async",
+          "  public String sleep(String name) throws InterruptedException {",
+          "    Thread.sleep(10);",
+          "    return name;",
+          "  }",
+          "",
+          "  @Async",
+          "  public String sleepScheduled(String name) {",
+          "    return await(",
+          "        Mono.fromCallable(",
+          "                () -> {",
+          "                  Thread.sleep(10);",
+          "                  return name;",
+          "                })",
+          "            .subscribeOn(Schedulers.boundedElastic()));",
+          "  }",
+          "}",
+          "");
+
   @Test
   void testUser() {
     UserService userService = BeanContext.get(UserService.class);
@@ -37,5 +92,162 @@ public class AsyncTest {
         .assertNext(password -> assertEquals(password, target))
         .expectComplete()
         .verify();
+
+    user.setEmail(email);
+    Mono<Integer> count = userService.asyncInvoke("countPassword", user);
+    StepVerifier.create(count).expectNext(name.length()).expectComplete().verify();
+  }
+
+  @Test
+  void testCachedResult() {
+    UserService userService = BeanContext.get(UserService.class);
+    Mono<Boolean> adult = userService.asyncInvoke("isAdult", 20);
+    // small primitive results come from the shared AsyncValues instances
+    assertSame(adult, userService.asyncInvoke("isAdult", 30));
+    assertNotSame(adult, userService.asyncInvoke("isAdult", 10));
+    StepVerifier.create(adult).expectNext(true).expectComplete().verify();
+
+    Mono<Integer> adultAge = userService.asyncInvoke("getAdultAge", "US");
+    assertSame(adultAge, userService.asyncInvoke("getAdultAge", "US"));
+    assertSame(adultAge, AsyncValues.just(21));
+    StepVerifier.create(adultAge).expectNext(21).expectComplete().verify();
+  }
+
+  @Test
+  void testTimeoutAndScheduler() {
+    UserService userService = BeanContext.get(UserService.class);
+    Mono<String> email = userService.asyncInvoke("getEmail", "kai");
+    StepVerifier.create(email)
+        .assertNext(value -> assertEquals(value, "kai@nozdormu.com"))
+        .expectComplete()
+        .verify();
+
+    Mono<String> slowEmail = userService.asyncInvoke("getEmailSlowly", "kai");
+    StepVerifier.create(slowEmail).expectError(TimeoutException.class).verify();
+  }
+
+  @Test
+  void testBlockingCall() {
+    UserService userService = BeanContext.get(UserService.class);
+    Mono<String> name = userService.asyncInvoke("getNameSlowly", "kai");
+    StepVerifier.create(name).expectNext("kai").expectComplete().verify();
+    // -AasyncBlockingCall=wrap moved Thread.sleep off the subscribing thread
+    assertNotEquals(UserService.getSleepThread(), Thread.currentThread().getName());
+    assertTrue(UserService.getSleepThread().startsWith("boundedElastic-"));
+  }
+
+  @Test
+  void testBatched() {
+    UserInfo userInfo = BeanContext.get(UserInfo.class);
+    int bulkCount = userInfo.getBulkCount();
+    Mono<User> kai = userInfo.asyncInvoke("findUser", "kai");
+    Mono<User> nozdormu = userInfo.asyncInvoke("findUser", "nozdormu");
+    StepVerifier.create(Mono.zip(kai, nozdormu))
+        .assertNext(
+            users -> {
+              assertEquals(users.getT1().getEmail(), "kai@nozdormu.com");
+              assertEquals(users.getT2().getEmail(), "nozdormu@nozdormu.com");
+            })
+        .expectComplete()
+        .verify();
+    assertEquals(bulkCount + 1, userInfo.getBulkCount());
+  }
+
+  @Test
+  void testBatchedCancel() {
+    List<List<String>> bulks = new CopyOnWriteArrayList<>();
+    BatchLoader<String, String> batchLoader =
+        new BatchLoader<>(
+            BatchLoader.DEFAULT_MAX_SIZE,
+            BatchLoader.DEFAULT_MAX_DELAY,
+            keys -> {
+              bulks.add(keys);
+              return Mono.just(
+                  keys.stream().collect(Collectors.toMap(key -> key, String::toUpperCase)));
+            });
+    batchLoader.load("kai").subscribe().dispose();
+    StepVerifier.create(batchLoader.load("nozdormu"))
+        .expectNext("NOZDORMU")
+        .expectComplete()
+        .verify();
+    assertEquals(List.of(List.of("nozdormu")), bulks);
+  }
+
+  @Test
+  void testBlockingCallWarning(@TempDir Path dir) throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = compileSleepService(dir, "warning");
+    assertEquals(
+        List.of("sleep(String)"), getBlockingCallMethods(diagnostics, Diagnostic.Kind.WARNING));
+    assertEquals(List.of(), getBlockingCallMethods(diagnostics, Diagnostic.Kind.ERROR));
+  }
+
+  @Test
+  void testBlockingCallError(@TempDir Path dir) throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = compileSleepService(dir, "error");
+    assertEquals(
+        List.of("sleep(String)"), getBlockingCallMethods(diagnostics, Diagnostic.Kind.ERROR));
+    assertEquals(List.of(), getBlockingCallMethods(diagnostics, Diagnostic.Kind.WARNING));
+  }
+
+  @Test
+  void testBlockingCallInvalidOption(@TempDir Path dir) throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = compileSleepService(dir, "loud");
+    assertTrue(
+        diagnostics.stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .anyMatch(
+                message ->
+                    message.contains("asyncBlockingCall=loud")
+                        && message.contains("ignore, warning, error, wrap")));
+  }
+
+  private List<String> getBlockingCallMethods(
+      List<Diagnostic<? extends JavaFileObject>> diagnostics, Diagnostic.Kind kind) {
+    return diagnostics.stream()
+        .filter(diagnostic -> diagnostic.getKind() == kind)
+        .map(diagnostic -> diagnostic.getMessage(null))
+        .filter(message -> message.startsWith("blocking call "))
+        .map(message -> message.substring(message.indexOf(" in @Async method ") + 18))
+        .collect(Collectors.toList());
+  }
+
+  private List<Diagnostic<? extends JavaFileObject>> compileSleepService(
+      Path projectPath, String blockingCallMode) throws IOException {
+    Path sourcePath = projectPath.resolve("src/test/java/io/nozdormu/async/check");
+    Path generatedSourcePath =
+        projectPath.resolve("build/generated/sources/annotationProcessor/java/test");
+    Path classPath = projectPath.resolve("build/classes/java/test");
+    Files.createDirectories(sourcePath);
+    Files.createDirectories(generatedSourcePath);
+    Files.createDirectories(classPath);
+    Path sourceFile =
+        Files.writeString(
+            sourcePath.resolve("SleepService.java"), SLEEP_SERVICE, StandardCharsets.UTF_8);
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of(
+                  "-proc:only",
+                  "-AasyncBlockingCall=" + blockingCallMode,
+                  "-classpath",
+                  System.getProperty("java.class.path"),
+                  "-s",
+                  generatedSourcePath.toString(),
+                  "-d",
+                  classPath.toString()),
+              null,
+              fileManager.getJavaFileObjects(sourceFile));
+      task.setProcessors(List.of(new InjectProcessor()));
+      task.call();
+    }
+    return diagnostics.getDiagnostics();
   }
 }
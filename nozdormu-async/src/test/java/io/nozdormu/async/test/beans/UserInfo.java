@@ -2,17 +2,35 @@ package io.nozdormu.async.test.beans;
 
 import io.nozdormu.spi.async.Async;
 import io.nozdormu.spi.async.Asyncable;
+import io.nozdormu.spi.async.Batched;
 import jakarta.enterprise.context.ApplicationScoped;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @ApplicationScoped
 public class UserInfo implements Asyncable {
 
+  private static final int BATCH_SIZE = 10;
+  private static final long BATCH_DELAY = 5 * 10;
+  private static final String BULK_METHOD = "findUsers";
+
+  private final AtomicInteger bulkCount = new AtomicInteger();
+
   public Mono<String> buildEmail(String name) {
     return Mono.just(name + "@nozdormu.com");
   }
 
+  public Mono<String> buildEmailSlowly(String name) {
+    return buildEmail(name).delayElement(Duration.ofSeconds(1));
+  }
+
   public Flux<Integer> buildPassword(String email, int size) {
     return Flux.range(0, size).map(index -> (index + 1) * email.length());
   }
@@ -25,4 +43,28 @@ public class UserInfo implements Asyncable {
     user.setEmail(email);
     return user;
   }
+
+  @Async
+  @Batched(maxSize = BATCH_SIZE, maxDelay = BATCH_DELAY, bulkMethod = BULK_METHOD)
+  public User findUser(String name) {
+    return findUsers(List.of(name)).get(name);
+  }
+
+  public Map<String, User> findUsers(List<String> names) {
+    bulkCount.incrementAndGet();
+    return names.stream()
+        .collect(
+            Collectors.toMap(
+                Function.identity(),
+                name -> {
+                  User user = new User();
+                  user.setName(name);
+                  user.setEmail(name + "@nozdormu.com");
+                  return user;
+                }));
+  }
+
+  public int getBulkCount() {
+    return bulkCount.get();
+  }
 }
@@ -6,11 +6,17 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class UserService implements Asyncable {
 
+  static final String EMAIL_SCHEDULER = "boundedElastic";
+  static final long SLOW_EMAIL_TIMEOUT = 100;
+
+  static volatile String sleepThread;
+
   private final UserInfo userInfo;
 
   @Inject
@@ -32,4 +38,50 @@ public class UserService implements Asyncable {
         await(userInfo.buildPassword(registedUser.getEmail(), registedUser.getName().length()));
     return passwords.stream().map(Object::toString).collect(Collectors.joining(""));
   }
+
+  @Async
+  public int countPassword(User user) {
+    List<Integer> passwords =
+        await(userInfo.buildPassword(user.getEmail(), user.getName().length()));
+    return passwords.size();
+  }
+
+  @Async
+  public boolean isAdult(int age) {
+    return age >= 18;
+  }
+
+  @Async
+  public int getAdultAge(String country) {
+    return country.equals("US") ? 21 : 18;
+  }
+
+  @Async
+  public String getNameSlowly(String name) throws InterruptedException {
+    Thread.sleep(sleepMillis(10));
+    User user = await(userInfo.getUser(name));
+    return user.getName();
+  }
+
+  /** evaluated as part of the blocking call, so it runs where the call was moved to */
+  static long sleepMillis(long millis) {
+    sleepThread = Thread.currentThread().getName();
+    return millis;
+  }
+
+  public static String getSleepThread() {
+    return sleepThread;
+  }
+
+  @Async(timeout = 1, timeoutUnit = TimeUnit.SECONDS, scheduler = EMAIL_SCHEDULER)
+  public String getEmail(String name) {
+    User user = await(userInfo.getUser(name));
+    return user.getEmail();
+  }
+
+  @Async(timeout = SLOW_EMAIL_TIMEOUT)
+  public String getEmailSlowly(String name) {
+    String email = await(userInfo.buildEmailSlowly(name));
+    return email;
+  }
 }
@@ -0,0 +1,91 @@
+package io.nozdormu.common;
+
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.CompilationUnit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * LRU cache of parsed compilation units shared by the processors of one daemon. Entries are keyed
+ * by qualified name and only served while the source fingerprint still matches; the total number
+ * of cached source lines is bounded.
+ */
+final class CompilationUnitCache {
+
+  static final long DEFAULT_MAX_LINES = 200_000;
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private long maxLines = DEFAULT_MAX_LINES;
+  private long lines;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  synchronized void setMaxLines(long maxLines) {
+    this.maxLines = Math.max(0, maxLines);
+    evict();
+  }
+
+  synchronized Optional<CompilationUnit> get(String qualifiedName, String fingerprint) {
+    Entry entry = entries.get(qualifiedName);
+    if (entry != null && entry.fingerprint.equals(fingerprint)) {
+      hits++;
+      return Optional.of(entry.compilationUnit);
+    }
+    if (entry != null) {
+      remove(qualifiedName);
+    }
+    misses++;
+    return Optional.empty();
+  }
+
+  synchronized void put(String qualifiedName, String fingerprint, CompilationUnit compilationUnit) {
+    long weight = compilationUnit.getRange().map(Range::getLineCount).orElse(1);
+    if (weight > maxLines) {
+      return;
+    }
+    Entry previous = entries.put(qualifiedName, new Entry(fingerprint, compilationUnit, weight));
+    if (previous != null) {
+      lines -= previous.lines;
+    }
+    lines += weight;
+    evict();
+  }
+
+  synchronized void remove(String qualifiedName) {
+    Entry entry = entries.remove(qualifiedName);
+    if (entry != null) {
+      lines -= entry.lines;
+    }
+  }
+
+  synchronized String statistics() {
+    return String.format(
+        "hits=%d, misses=%d, evictions=%d, entries=%d, lines=%d/%d",
+        hits, misses, evictions, entries.size(), lines, maxLines);
+  }
+
+  private void evict() {
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (lines > maxLines && iterator.hasNext()) {
+      lines -= iterator.next().lines;
+      iterator.remove();
+      evictions++;
+    }
+  }
+
+  private static final class Entry {
+    private final String fingerprint;
+    private final CompilationUnit compilationUnit;
+    private final long lines;
+
+    private Entry(String fingerprint, CompilationUnit compilationUnit, long lines) {
+      this.fingerprint = fingerprint;
+      this.compilationUnit = compilationUnit;
+      this.lines = lines;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import com.github.javaparser.resolution.types.ResolvedType;
 import com.github.javaparser.symbolsolver.JavaSymbolSolver;
 import com.github.javaparser.symbolsolver.javaparsermodel.declarations.*;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.*;
+import com.sun.source.util.TreePath;
 import com.sun.source.util.Trees;
 import io.nozdormu.spi.decompiler.TypeElementDecompiler;
 import io.nozdormu.spi.decompiler.TypeElementDecompilerProvider;
@@ -45,7 +46,10 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.*;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -53,6 +57,7 @@ import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -61,30 +66,33 @@ import static javax.lang.model.element.ElementKind.CLASS;
 public class ProcessorManager {
 
   private static final Logger logger = LoggerFactory.getLogger(ProcessorManager.class);
-  private static final Map<String, CompilationUnit> COMPILATION_UNIT_CACHE =
-      new ConcurrentHashMap<>();
+  private static final CompilationUnitCache COMPILATION_UNIT_CACHE = new CompilationUnitCache();
   private static final Map<Path, List<Path>> ROOT_PROJECT_SOURCE_PATHS_CACHE =
       new ConcurrentHashMap<>();
   private final Map<String, Optional<MethodDeclaration>> methodDeclarationCache =
       new ConcurrentHashMap<>();
   private final Map<String, Map<String, List<MethodDeclaration>>> classMethodIndexCache =
       new ConcurrentHashMap<>();
+  private final Map<String, Optional<String>> fingerprintCache = new ConcurrentHashMap<>();
 
   private final ProcessingEnvironment processingEnv;
   private RoundEnvironment roundEnv;
   private final Trees trees;
   private final Filer filer;
   private final Elements elements;
+  private final Types types;
   private final JavaParser javaParser;
   private final JavaSymbolSolver javaSymbolSolver;
   private final CombinedTypeSolver combinedTypeSolver;
   private final TypeElementDecompiler typeElementDecompiler;
-  private Path decompileCacheDir;
+  private TypeSummaryCache typeSummaryCache;
+  private final boolean compilationUnitCacheDebug;
 
   public ProcessorManager(ProcessingEnvironment processingEnv, ClassLoader classLoader) {
     this.processingEnv = processingEnv;
     this.filer = processingEnv.getFiler();
     this.elements = processingEnv.getElementUtils();
+    this.types = processingEnv.getTypeUtils();
     Trees treesInstance;
     try {
       treesInstance = Trees.instance(processingEnv);
@@ -123,14 +131,46 @@ public class ProcessorManager {
     this.typeElementDecompiler = TypeElementDecompilerProvider.load(classLoader);
     String decompileCacheDirOption = processingEnv.getOptions().get("decompileCacheDir");
     if (decompileCacheDirOption != null && !decompileCacheDirOption.isEmpty()) {
-      this.decompileCacheDir = Paths.get(decompileCacheDirOption);
+      this.typeSummaryCache = new TypeSummaryCache(Paths.get(decompileCacheDirOption));
     }
+    getOption("compilationUnitCacheSize")
+        .map(Long::parseLong)
+        .ifPresent(COMPILATION_UNIT_CACHE::setMaxLines);
+    this.compilationUnitCacheDebug =
+        getOption("compilationUnitCacheDebug").map(Boolean::parseBoolean).orElse(false);
+  }
+
+  public Optional<String> getOption(String name) {
+    return Optional.ofNullable(processingEnv.getOptions().get(name))
+        .filter(value -> !value.isEmpty());
+  }
+
+  public Filer getFiler() {
+    return filer;
+  }
+
+  public void printMessage(Diagnostic.Kind kind, String message) {
+    processingEnv.getMessager().printMessage(kind, message);
+  }
+
+  public void printMessage(Diagnostic.Kind kind, String message, Element element) {
+    processingEnv.getMessager().printMessage(kind, message, element);
   }
 
   public void setRoundEnv(RoundEnvironment roundEnv) {
     this.roundEnv = roundEnv;
     methodDeclarationCache.clear();
     classMethodIndexCache.clear();
+    fingerprintCache.clear();
+    if (compilationUnitCacheDebug) {
+      printMessage(
+          Diagnostic.Kind.NOTE, "compilation unit cache: " + COMPILATION_UNIT_CACHE.statistics());
+    }
+  }
+
+  /** the build is over or aborted, the decompiler closes its jars and drops its results */
+  public void release() {
+    typeElementDecompiler.release();
   }
 
   private List<Path> getProjectSourcePaths(Path rootProjectDir) {
@@ -163,14 +203,10 @@ public class ProcessorManager {
 
   private Path getGeneratedSourcePath() {
     try {
-      FileObject tmp =
-          filer.createResource(StandardLocation.SOURCE_OUTPUT, "", UUID.randomUUID().toString());
-      Writer writer = tmp.openWriter();
-      writer.write("");
-      writer.close();
-      Path path = Paths.get(tmp.toUri());
-      Files.deleteIfExists(path);
-      Path generatedSourcePath = path.getParent();
+      // looked up, not created: a resource without originating element makes Gradle fall back
+      // to a full recompilation
+      FileObject probe = filer.getResource(StandardLocation.SOURCE_OUTPUT, "", "nozdormu");
+      Path generatedSourcePath = Paths.get(probe.toUri()).getParent();
       logger.info("generated source path: {}", generatedSourcePath.toString());
       return generatedSourcePath;
     } catch (IOException e) {
@@ -294,33 +330,39 @@ public class ProcessorManager {
     }
   }
 
-  public void cacheDecompile(TypeElement typeElement, String source) {
-    if (decompileCacheDir != null) {
-      Path filePath =
-          decompileCacheDir.resolve(
-              typeElement.getQualifiedName().toString().replace('.', File.separatorChar) + ".java");
-      try {
-        if (!Files.exists(filePath.getParent())) {
-          Files.createDirectories(filePath.getParent());
-        }
-        Files.writeString(
-            filePath,
-            source,
-            StandardCharsets.UTF_8,
-            StandardOpenOption.CREATE_NEW,
-            StandardOpenOption.WRITE);
-        logger.info("cache decompile: {}", typeElement.getQualifiedName());
-      } catch (IOException ignore) {
-      }
+  public Optional<CompilationUnit> getCompilationUnit(TypeElement typeElement) {
+    Optional<CompilationUnit> compilationUnit = findCompilationUnit(typeElement);
+    if (compilationUnit.isPresent()) {
+      return compilationUnit;
+    }
+    Optional<String> source;
+    try {
+      logger.info("{} decompile start", typeElement.getQualifiedName());
+      source = typeElementDecompiler.decompileOrEmpty(typeElement);
+    } catch (Exception e) {
+      logger.info("{} decompile error", typeElement.getQualifiedName());
+      throw new RuntimeException(e);
     }
+    return source.map(value -> parseDecompiled(typeElement, value));
   }
 
-  public Optional<CompilationUnit> getCompilationUnit(TypeElement typeElement) {
+  private Optional<CompilationUnit> findCompilationUnit(TypeElement typeElement) {
     String qualifiedName = typeElement.getQualifiedName().toString();
-    CompilationUnit cached = COMPILATION_UNIT_CACHE.get(qualifiedName);
-    if (cached != null) {
-      logger.info("{} decompile cache exist", qualifiedName);
-      return Optional.of(cached);
+    Optional<String> fingerprint = getFingerprint(typeElement);
+    Optional<CompilationUnit> cached =
+        fingerprint.flatMap(value -> COMPILATION_UNIT_CACHE.get(qualifiedName, value));
+    if (compilationUnitCacheDebug) {
+      printMessage(
+          Diagnostic.Kind.NOTE,
+          String.format(
+              "compilation unit cache %s: %s",
+              cached.isPresent() ? "hit" : "miss", qualifiedName));
+    }
+    if (cached.isPresent()) {
+      logger.info("{} compilation unit cache exist", qualifiedName);
+      // the cached unit may have been parsed by the symbol solver of a previous build
+      javaSymbolSolver.inject(cached.get());
+      return cached;
     }
     Optional<CompilationUnit> compilationUnitOptional =
         combinedTypeSolver
@@ -354,70 +396,102 @@ public class ProcessorManager {
                               return parseResult.getResult();
                             })
                         .or(
-                            () -> {
-                              if (decompileCacheDir != null) {
-                                Path filePath =
-                                    decompileCacheDir.resolve(
-                                        typeElement
-                                                .getQualifiedName()
-                                                .toString()
-                                                .replace('.', File.separatorChar)
-                                            + ".java");
-                                try {
-                                  String decompileJava = Files.readString(filePath);
-                                  logger.info(
-                                      "{} decompile java file exist",
-                                      typeElement.getQualifiedName());
-                                  ParseResult<CompilationUnit> parseResult =
-                                      javaParser.parse(decompileJava);
-                                  if (!parseResult.getProblems().isEmpty()) {
-                                    throw new RuntimeException(
-                                        parseResult.getProblems().stream()
-                                            .map(Problem::getMessage)
-                                            .collect(Collectors.joining(System.lineSeparator())));
-                                  }
-                                  return parseResult.getResult();
-                                } catch (IOException e) {
-                                  return Optional.empty();
-                                }
-                              } else {
-                                return Optional.empty();
-                              }
-                            })
-                        .or(
-                            () -> {
-                              try {
-                                logger.info("{} decompile start", typeElement.getQualifiedName());
-                                return typeElementDecompiler
-                                    .decompileOrEmpty(typeElement)
+                            () ->
+                                getSummaryKey(typeElement)
+                                    .flatMap(key -> typeSummaryCache.read(qualifiedName, key))
                                     .flatMap(
-                                        source -> {
-                                          cacheDecompile(typeElement, source);
+                                        summary -> {
+                                          logger.info("{} summary exist", qualifiedName);
                                           ParseResult<CompilationUnit> parseResult =
-                                              javaParser.parse(source);
+                                              javaParser.parse(summary);
                                           if (!parseResult.getProblems().isEmpty()) {
-                                            throw new RuntimeException(
-                                                parseResult.getProblems().stream()
-                                                    .map(Problem::getMessage)
-                                                    .collect(
-                                                        Collectors.joining(
-                                                            System.lineSeparator())));
+                                            return Optional.empty();
                                           }
-                                          logger.info(
-                                              "{} decompile success",
-                                              typeElement.getQualifiedName());
                                           return parseResult.getResult();
-                                        });
-                              } catch (Exception e) {
-                                logger.info("{} decompile error", typeElement.getQualifiedName());
-                                throw new RuntimeException(e);
-                              }
-                            }));
-    compilationUnitOptional.ifPresent(
-        compilationUnit -> COMPILATION_UNIT_CACHE.put(qualifiedName, compilationUnit));
+                                        })));
+    fingerprint.ifPresent(
+        value ->
+            compilationUnitOptional.ifPresent(
+                compilationUnit ->
+                    COMPILATION_UNIT_CACHE.put(qualifiedName, value, compilationUnit)));
     return compilationUnitOptional;
   }
 
+  private CompilationUnit parseDecompiled(TypeElement typeElement, String source) {
+    ParseResult<CompilationUnit> parseResult = javaParser.parse(source);
+    if (!parseResult.getProblems().isEmpty() || parseResult.getResult().isEmpty()) {
+      throw new RuntimeException(
+          parseResult.getProblems().stream()
+              .map(Problem::getMessage)
+              .collect(Collectors.joining(System.lineSeparator())));
+    }
+    logger.info("{} decompile success", typeElement.getQualifiedName());
+    CompilationUnit compilationUnit = parseResult.getResult().get();
+    cacheDecompile(typeElement, source);
+    getFingerprint(typeElement)
+        .ifPresent(
+            fingerprint ->
+                COMPILATION_UNIT_CACHE.put(
+                    typeElement.getQualifiedName().toString(), fingerprint, compilationUnit));
+    return compilationUnit;
+  }
+
+  Optional<String> getFingerprint(TypeElement typeElement) {
+    // sources do not change within a round, hashing them once per type is enough
+    return fingerprintCache.computeIfAbsent(
+        typeElement.getQualifiedName().toString(), name -> computeFingerprint(typeElement));
+  }
+
+  private Optional<String> computeFingerprint(TypeElement typeElement) {
+    if (trees != null) {
+      TreePath treePath = trees.getPath(typeElement);
+      if (treePath != null) {
+        try {
+          String source =
+              treePath.getCompilationUnit().getSourceFile().getCharContent(true).toString();
+          CRC32 crc32 = new CRC32();
+          crc32.update(source.getBytes(StandardCharsets.UTF_8));
+          return Optional.of(
+              "source:" + source.length() + ":" + Long.toHexString(crc32.getValue()));
+        } catch (IOException e) {
+          return Optional.empty();
+        }
+      }
+    }
+    return getClassFile(typeElement)
+        .map(FileObject::getLastModified)
+        .filter(lastModified -> lastModified != 0)
+        .map(lastModified -> "class:" + lastModified);
+  }
+
+  /** stores decompiled source in the decompileCacheDir, keyed by the jar path and class file */
+  public void cacheDecompile(TypeElement typeElement, String source) {
+    getSummaryKey(typeElement)
+        .ifPresent(
+            key -> typeSummaryCache.write(typeElement.getQualifiedName().toString(), key, source));
+  }
+
+  // library types are decompiled once per jar entry, later builds parse the stored summary
+  private Optional<String> getSummaryKey(TypeElement typeElement) {
+    if (typeSummaryCache == null) {
+      return Optional.empty();
+    }
+    return getClassFile(typeElement).flatMap(typeSummaryCache::getKey);
+  }
+
+  private Optional<FileObject> getClassFile(TypeElement typeElement) {
+    String binaryName = elements.getBinaryName(typeElement).toString();
+    String packageName = elements.getPackageOf(typeElement).getQualifiedName().toString();
+    String className =
+        packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+    try {
+      return Optional.of(
+          filer.getResource(StandardLocation.CLASS_PATH, packageName, className + ".class"));
+    } catch (IOException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
   public Optional<CompilationUnit> getCompilationUnit(AnnotationExpr annotationExpr) {
     return getTypeElement(getQualifiedName(annotationExpr)).flatMap(this::getCompilationUnit);
   }
@@ -532,7 +606,8 @@ public class ProcessorManager {
                         compilationUnit.toString())));
   }
 
-  public String getQualifiedName(ClassOrInterfaceDeclaration classOrInterfaceDeclaration) {
+  public String getQualifiedName(
+      ClassOrInterfaceDeclaration classOrInterfaceDeclaration) {
     ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration =
         javaSymbolSolver.resolveDeclaration(
             classOrInterfaceDeclaration, ResolvedReferenceTypeDeclaration.class);
@@ -940,19 +1015,8 @@ public class ProcessorManager {
       if (parentNode instanceof ClassOrInterfaceDeclaration) {
         ClassOrInterfaceDeclaration classOrInterfaceDeclaration =
             (ClassOrInterfaceDeclaration) parentNode;
-        if (classOrInterfaceDeclaration.getFields().stream()
-            .flatMap(fieldDeclaration -> fieldDeclaration.getVariables().stream())
-            .anyMatch(
-                variableDeclarator ->
-                    variableDeclarator.getNameAsString().equals(nameExpr.getNameAsString()))) {
-          return Optional.of((ClassOrInterfaceDeclaration) parentNode);
-        } else if (classOrInterfaceDeclaration.getMembers().stream()
-            .filter(bodyDeclaration -> bodyDeclaration instanceof NodeWithSimpleName)
-            .map(bodyDeclaration -> (NodeWithSimpleName<?>) bodyDeclaration)
-            .anyMatch(
-                nodeWithSimpleName ->
-                    nodeWithSimpleName.getNameAsString().equals(nameExpr.getNameAsString()))) {
-          return Optional.of((ClassOrInterfaceDeclaration) parentNode);
+        if (declaresMember(classOrInterfaceDeclaration, nameExpr.getNameAsString())) {
+          return Optional.of(classOrInterfaceDeclaration);
         }
         return getClassOrInterfaceDeclaration(nameExpr, parentNode);
       } else if (parentNode instanceof CompilationUnit) {
@@ -974,6 +1038,44 @@ public class ProcessorManager {
     return Optional.empty();
   }
 
+  private Optional<String> getDeclaringTypeQualifiedName(NameExpr nameExpr, Node node) {
+    if (node.getParentNode().isPresent()) {
+      Node parentNode = node.getParentNode().get();
+      if (parentNode instanceof ClassOrInterfaceDeclaration
+          && declaresMember(
+              (ClassOrInterfaceDeclaration) parentNode, nameExpr.getNameAsString())) {
+        return Optional.of(getQualifiedName((ClassOrInterfaceDeclaration) parentNode));
+      } else if (parentNode instanceof CompilationUnit) {
+        // imported types are looked up as elements, parsing only types javac does not know
+        CompilationUnit compilationUnit = (CompilationUnit) parentNode;
+        return compilationUnit.getImports().stream()
+            .map(
+                importDeclaration ->
+                    getImportedTypeQualifiedName(importDeclaration, nameExpr.getNameAsString()))
+            .flatMap(Optional::stream)
+            .map(
+                qualifiedName ->
+                    getTypeElement(qualifiedName).isPresent()
+                        ? qualifiedName
+                        : getQualifiedName(getClassOrInterfaceDeclarationOrError(qualifiedName)))
+            .findFirst();
+      }
+      return getDeclaringTypeQualifiedName(nameExpr, parentNode);
+    }
+    return Optional.empty();
+  }
+
+  private boolean declaresMember(
+      ClassOrInterfaceDeclaration classOrInterfaceDeclaration, String name) {
+    return classOrInterfaceDeclaration.getFields().stream()
+            .flatMap(fieldDeclaration -> fieldDeclaration.getVariables().stream())
+            .anyMatch(variableDeclarator -> variableDeclarator.getNameAsString().equals(name))
+        || classOrInterfaceDeclaration.getMembers().stream()
+            .filter(bodyDeclaration -> bodyDeclaration instanceof NodeWithSimpleName)
+            .map(bodyDeclaration -> (NodeWithSimpleName<?>) bodyDeclaration)
+            .anyMatch(nodeWithSimpleName -> nodeWithSimpleName.getNameAsString().equals(name));
+  }
+
   private Optional<String> getImportedTypeQualifiedName(
       ImportDeclaration importDeclaration, String simpleName) {
     String importName = importDeclaration.getNameAsString();
@@ -988,44 +1090,48 @@ public class ProcessorManager {
 
   public Optional<MethodDeclaration> getMethodDeclaration(MethodCallExpr methodCallExpr) {
     String cacheKey = buildMethodDeclarationCacheKey(methodCallExpr);
-    return methodDeclarationCache.computeIfAbsent(
-        cacheKey,
-        ignored -> {
-          Optional<MethodDeclaration> methodDeclaration;
-          if (methodCallExpr.hasScope()
-              && methodCallExpr.getScope().stream().noneMatch(Expression::isThisExpr)) {
-            try {
-              String referenceQualifiedName =
-                  resolveScopeQualifiedName(methodCallExpr.getScope().get());
-              methodDeclaration =
-                  findMatchingMethodDeclaration(referenceQualifiedName, methodCallExpr);
-            } catch (RuntimeException e) {
-              ClassOrInterfaceDeclaration classOrInterfaceDeclaration =
-                  methodCallExpr
-                      .getScope()
-                      .filter(Expression::isNameExpr)
-                      .flatMap(
-                          expression -> getClassOrInterfaceDeclaration(expression.asNameExpr()))
-                      .orElseThrow(() -> e);
-              methodDeclaration =
-                  findMatchingMethodDeclaration(
-                      classOrInterfaceDeclaration.getMethods(), methodCallExpr);
-            }
-          } else {
-            methodDeclaration =
-                methodCallExpr
-                    .findCompilationUnit()
-                    .flatMap(this::getPublicClassOrInterfaceDeclaration)
-                    .stream()
-                    .flatMap(
-                        classOrInterfaceDeclaration ->
-                            findMatchingMethodDeclaration(
-                                classOrInterfaceDeclaration.getMethods(), methodCallExpr)
-                                .stream())
-                    .findFirst();
-          }
-          return methodDeclaration;
-        });
+    Optional<MethodDeclaration> cached = methodDeclarationCache.get(cacheKey);
+    if (cached != null) {
+      return cached;
+    }
+    // resolved outside computeIfAbsent: resolution recurses into this cache
+    Optional<MethodDeclaration> methodDeclaration = findMethodDeclaration(methodCallExpr);
+    Optional<MethodDeclaration> previous =
+        methodDeclarationCache.putIfAbsent(cacheKey, methodDeclaration);
+    return previous != null ? previous : methodDeclaration;
+  }
+
+  private Optional<MethodDeclaration> findMethodDeclaration(MethodCallExpr methodCallExpr) {
+    Optional<MethodDeclaration> methodDeclaration;
+    if (methodCallExpr.hasScope()
+        && methodCallExpr.getScope().stream().noneMatch(Expression::isThisExpr)) {
+      try {
+        String referenceQualifiedName = resolveScopeQualifiedName(methodCallExpr.getScope().get());
+        methodDeclaration = findMatchingMethodDeclaration(referenceQualifiedName, methodCallExpr);
+      } catch (RuntimeException e) {
+        ClassOrInterfaceDeclaration classOrInterfaceDeclaration =
+            methodCallExpr
+                .getScope()
+                .filter(Expression::isNameExpr)
+                .flatMap(expression -> getClassOrInterfaceDeclaration(expression.asNameExpr()))
+                .orElseThrow(() -> e);
+        methodDeclaration =
+            findMatchingMethodDeclaration(classOrInterfaceDeclaration.getMethods(), methodCallExpr);
+      }
+    } else {
+      methodDeclaration =
+          methodCallExpr
+              .findCompilationUnit()
+              .flatMap(this::getPublicClassOrInterfaceDeclaration)
+              .stream()
+              .flatMap(
+                  classOrInterfaceDeclaration ->
+                      findMatchingMethodDeclaration(
+                          classOrInterfaceDeclaration.getMethods(), methodCallExpr)
+                          .stream())
+              .findFirst();
+    }
+    return methodDeclaration;
   }
 
   public String resolveScopeQualifiedName(Expression scopeExpression) {
@@ -1085,8 +1191,13 @@ public class ProcessorManager {
       String qualifiedName, MethodCallExpr methodCallExpr) {
     String methodIndexKey =
         methodCallExpr.getNameAsString() + "#" + methodCallExpr.getArguments().size();
-    return classMethodIndexCache
-        .computeIfAbsent(qualifiedName, this::buildClassMethodIndex)
+    Map<String, List<MethodDeclaration>> classMethodIndex =
+        classMethodIndexCache.get(qualifiedName);
+    if (classMethodIndex == null) {
+      classMethodIndex = buildClassMethodIndex(qualifiedName);
+      classMethodIndexCache.putIfAbsent(qualifiedName, classMethodIndex);
+    }
+    return classMethodIndex
         .getOrDefault(methodIndexKey, Collections.emptyList())
         .stream()
         .collect(
@@ -1239,6 +1350,23 @@ public class ProcessorManager {
     return Optional.empty();
   }
 
+  public Optional<String> resolveMethodCallDeclaringTypeQualifiedName(
+      MethodCallExpr methodCallExpr) {
+    try {
+      return Optional.of(
+          javaSymbolSolver
+              .resolveDeclaration(methodCallExpr, ResolvedMethodDeclaration.class)
+              .declaringType()
+              .getQualifiedName());
+    } catch (RuntimeException e) {
+      try {
+        return methodCallExpr.getScope().map(this::resolveScopeQualifiedName);
+      } catch (RuntimeException ignored) {
+        return Optional.empty();
+      }
+    }
+  }
+
   public String resolveMethodDeclarationReturnTypeQualifiedName(MethodCallExpr methodCallExpr) {
     try {
       return getMethodDeclaration(methodCallExpr)
@@ -1381,9 +1509,7 @@ public class ProcessorManager {
       return Stream.of(getQualifiedName(expression.asClassExpr().getType()));
     }
     if (expression.isNameExpr()) {
-      return getClassOrInterfaceDeclaration(expression.asNameExpr())
-          .map(this::getQualifiedName)
-          .stream();
+      return getDeclaringTypeQualifiedName(expression.asNameExpr(), expression).stream();
     }
     if (expression.isFieldAccessExpr() && expression.asFieldAccessExpr().getScope().isNameExpr()) {
       ResolvedType resolvedType =
@@ -1444,7 +1570,22 @@ public class ProcessorManager {
     return Optional.empty();
   }
 
+  public Stream<String> getExtendedTypes(String qualifiedName) {
+    Optional<TypeElement> typeElement = getTypeElement(qualifiedName);
+    if (typeElement.isPresent()) {
+      return isClassOrInterface(typeElement.get())
+          ? getExtendedTypes(typeElement.get())
+          : Stream.empty();
+    }
+    return getClassOrInterfaceDeclaration(qualifiedName).stream().flatMap(this::getExtendedTypes);
+  }
+
   public Stream<String> getExtendedTypes(ClassOrInterfaceDeclaration classOrInterfaceDeclaration) {
+    Optional<TypeElement> typeElement =
+        classOrInterfaceDeclaration.getFullyQualifiedName().flatMap(this::getTypeElement);
+    if (typeElement.isPresent()) {
+      return getExtendedTypes(typeElement.get());
+    }
     return Stream.concat(
             classOrInterfaceDeclaration.getExtendedTypes().stream().map(this::getQualifiedName),
             classOrInterfaceDeclaration.getExtendedTypes().stream().flatMap(this::getExtendedTypes))
@@ -1459,8 +1600,37 @@ public class ProcessorManager {
         .map(ResolvedReferenceType::getQualifiedName);
   }
 
+  public Stream<String> getExtendedTypes(TypeElement typeElement) {
+    List<TypeMirror> extendedTypes;
+    if (typeElement.getKind().isInterface()) {
+      extendedTypes = new ArrayList<>(typeElement.getInterfaces());
+    } else if (typeElement.getSuperclass().getKind() == TypeKind.DECLARED
+        && !getQualifiedName(typeElement.getSuperclass()).equals(Object.class.getName())) {
+      extendedTypes = List.of(typeElement.getSuperclass());
+    } else {
+      extendedTypes = List.of();
+    }
+    return getTypesWithAncestors(extendedTypes);
+  }
+
+  public Stream<String> getImplementedTypes(String qualifiedName) {
+    Optional<TypeElement> typeElement = getTypeElement(qualifiedName);
+    if (typeElement.isPresent()) {
+      return isClassOrInterface(typeElement.get())
+          ? getImplementedTypes(typeElement.get())
+          : Stream.empty();
+    }
+    return getClassOrInterfaceDeclaration(qualifiedName).stream()
+        .flatMap(this::getImplementedTypes);
+  }
+
   public Stream<String> getImplementedTypes(
       ClassOrInterfaceDeclaration classOrInterfaceDeclaration) {
+    Optional<TypeElement> typeElement =
+        classOrInterfaceDeclaration.getFullyQualifiedName().flatMap(this::getTypeElement);
+    if (typeElement.isPresent()) {
+      return getImplementedTypes(typeElement.get());
+    }
     return Stream.concat(
             classOrInterfaceDeclaration.getImplementedTypes().stream().map(this::getQualifiedName),
             classOrInterfaceDeclaration.getImplementedTypes().stream()
@@ -1475,4 +1645,36 @@ public class ProcessorManager {
                 resolvedReferenceTypeDeclaration.getAllAncestors().stream())
         .map(ResolvedReferenceType::getQualifiedName);
   }
+
+  public Stream<String> getImplementedTypes(TypeElement typeElement) {
+    if (typeElement.getKind().isInterface()) {
+      return Stream.empty();
+    }
+    return getTypesWithAncestors(new ArrayList<>(typeElement.getInterfaces()));
+  }
+
+  private boolean isClassOrInterface(TypeElement typeElement) {
+    return typeElement.getKind() == CLASS || typeElement.getKind() == ElementKind.INTERFACE;
+  }
+
+  private Stream<String> getTypesWithAncestors(List<? extends TypeMirror> typeMirrors) {
+    Set<String> qualifiedNames = new LinkedHashSet<>();
+    typeMirrors.forEach(typeMirror -> qualifiedNames.add(getQualifiedName(typeMirror)));
+    typeMirrors.forEach(typeMirror -> collectAncestors(typeMirror, qualifiedNames));
+    return qualifiedNames.stream();
+  }
+
+  private void collectAncestors(TypeMirror typeMirror, Set<String> qualifiedNames) {
+    types.directSupertypes(typeMirror).stream()
+        .filter(supertype -> supertype.getKind() == TypeKind.DECLARED)
+        .forEach(
+            supertype -> {
+              qualifiedNames.add(getQualifiedName(supertype));
+              collectAncestors(supertype, qualifiedNames);
+            });
+  }
+
+  private String getQualifiedName(TypeMirror typeMirror) {
+    return ((TypeElement) types.asElement(typeMirror)).getQualifiedName().toString();
+  }
 }
@@ -0,0 +1,78 @@
+package io.nozdormu.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.tools.FileObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent summaries of decompiled library types. A summary is the decompiler output as is,
+ * bodies included, so a warm build parses the same source a cold build parsed; it is stored per
+ * jar path and class file hash so a changed dependency is decompiled again.
+ */
+final class TypeSummaryCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(TypeSummaryCache.class);
+
+  private final Path directory;
+
+  TypeSummaryCache(Path directory) {
+    this.directory = directory;
+  }
+
+  Optional<String> getKey(FileObject classFile) {
+    String location = classFile.toUri().toString();
+    int separator = location.indexOf("!/");
+    String container = separator < 0 ? location : location.substring(0, separator);
+    try (InputStream inputStream = classFile.openInputStream()) {
+      CRC32 entryCrc32 = new CRC32();
+      entryCrc32.update(inputStream.readAllBytes());
+      CRC32 containerCrc32 = new CRC32();
+      containerCrc32.update(container.getBytes(StandardCharsets.UTF_8));
+      return Optional.of(
+          Long.toHexString(containerCrc32.getValue())
+              + "-"
+              + Long.toHexString(entryCrc32.getValue()));
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  Optional<String> read(String qualifiedName, String key) {
+    Path filePath = getPath(qualifiedName, key);
+    if (!Files.exists(filePath)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Files.readString(filePath));
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  void write(String qualifiedName, String key, String source) {
+    Path filePath = getPath(qualifiedName, key);
+    try {
+      Files.createDirectories(filePath.getParent());
+      Path tempFile = Files.createTempFile(filePath.getParent(), null, ".tmp");
+      Files.writeString(tempFile, source, StandardCharsets.UTF_8);
+      Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+      logger.info("cache summary: {}", qualifiedName);
+    } catch (IOException e) {
+      logger.warn("cache summary failed: {}", qualifiedName, e);
+    }
+  }
+
+  private Path getPath(String qualifiedName, String key) {
+    return directory.resolve(qualifiedName.replace('.', File.separatorChar) + "." + key + ".java");
+  }
+}
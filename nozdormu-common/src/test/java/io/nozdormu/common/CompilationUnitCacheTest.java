@@ -0,0 +1,228 @@
+package io.nozdormu.common;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompilationUnitCacheTest {
+
+  private static final String COMPONENT =
+      String.join(
+          System.lineSeparator(),
+          "package io.nozdormu.check;",
+          "",
+          "public class %s {",
+          "",
+          "  public String getName() {",
+          "    return \"%s\";",
+          "  }",
+          "}");
+
+  @Test
+  void testLineBudget() {
+    CompilationUnitCache compilationUnitCache = new CompilationUnitCache();
+    CompilationUnit pump = parse("Pump", "pump");
+    long lines = pump.getRange().orElseThrow().getLineCount();
+    compilationUnitCache.setMaxLines(lines * 2);
+    compilationUnitCache.put("io.nozdormu.check.Pump", "source:1", pump);
+    compilationUnitCache.put("io.nozdormu.check.Valve", "source:1", parse("Valve", "valve"));
+
+    // a hit moves Pump to the end, Valve is the least recently used one
+    assertSame(compilationUnitCache.get("io.nozdormu.check.Pump", "source:1").orElseThrow(), pump);
+    compilationUnitCache.put("io.nozdormu.check.Gauge", "source:1", parse("Gauge", "gauge"));
+    assertEquals(
+        compilationUnitCache.get("io.nozdormu.check.Valve", "source:1"), Optional.empty());
+    assertTrue(compilationUnitCache.get("io.nozdormu.check.Pump", "source:1").isPresent());
+    assertTrue(compilationUnitCache.get("io.nozdormu.check.Gauge", "source:1").isPresent());
+    assertTrue(compilationUnitCache.statistics().contains("evictions=1"));
+
+    // a unit above the whole budget is not cached and evicts nothing
+    compilationUnitCache.setMaxLines(lines - 1);
+    assertTrue(compilationUnitCache.statistics().contains("entries=0"));
+    compilationUnitCache.put("io.nozdormu.check.Pump", "source:1", pump);
+    assertEquals(compilationUnitCache.get("io.nozdormu.check.Pump", "source:1"), Optional.empty());
+  }
+
+  @Test
+  void testFingerprintMismatch() {
+    CompilationUnitCache compilationUnitCache = new CompilationUnitCache();
+    compilationUnitCache.put("io.nozdormu.check.Pump", "source:1", parse("Pump", "pump"));
+    assertEquals(compilationUnitCache.get("io.nozdormu.check.Pump", "source:2"), Optional.empty());
+    // the stale entry is dropped, the old fingerprint does not bring it back
+    assertEquals(compilationUnitCache.get("io.nozdormu.check.Pump", "source:1"), Optional.empty());
+    assertTrue(compilationUnitCache.statistics().contains("lines=0/"));
+  }
+
+  @Test
+  void testSourceFingerprint(@TempDir Path projectPath) throws IOException {
+    Path source = writeComponent(projectPath, "Pump", "pump");
+    FingerprintProcessor processor =
+        new FingerprintProcessor(
+            "io.nozdormu.check.Pump",
+            () -> {
+              Path changed = writeComponent(projectPath, "Pump", "pump changed in round");
+              try {
+                Files.setLastModifiedTime(
+                    changed, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+              } catch (IOException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    compile(projectPath, List.of(source), processor);
+
+    List<Optional<String>> fingerprints = processor.fingerprints;
+    assertEquals(fingerprints.size(), 3);
+    assertTrue(fingerprints.get(0).orElseThrow().startsWith("source:"));
+    // memoized for the round although the file changed
+    assertEquals(fingerprints.get(1), fingerprints.get(0));
+    // the next round hashes the source again
+    assertNotEquals(fingerprints.get(2), fingerprints.get(0));
+
+    FingerprintProcessor unchanged = new FingerprintProcessor("io.nozdormu.check.Pump", null);
+    compile(projectPath, List.of(source), unchanged);
+    assertEquals(unchanged.fingerprints.get(0), fingerprints.get(2));
+  }
+
+  @Test
+  void testClassFingerprint(@TempDir Path projectPath) throws IOException {
+    Path libraryPath = projectPath.resolve("library");
+    Files.createDirectories(libraryPath);
+    compile(
+        projectPath,
+        List.of(writeComponent(projectPath, "Valve", "valve")),
+        null,
+        "-proc:none",
+        "-d",
+        libraryPath.toString());
+    Path classFile = libraryPath.resolve("io/nozdormu/check/Valve.class");
+    Files.delete(projectPath.resolve("src/main/java/io/nozdormu/check/Valve.java"));
+    Path source = writeComponent(projectPath, "Pump", "pump");
+    String classPath = libraryPath + File.pathSeparator + System.getProperty("java.class.path");
+
+    Files.setLastModifiedTime(classFile, FileTime.fromMillis(1_700_000_000_000L));
+    FingerprintProcessor before = new FingerprintProcessor("io.nozdormu.check.Valve", null);
+    compile(projectPath, List.of(source), before, "-classpath", classPath);
+    Files.setLastModifiedTime(classFile, FileTime.fromMillis(1_700_000_010_000L));
+    FingerprintProcessor after = new FingerprintProcessor("io.nozdormu.check.Valve", null);
+    compile(projectPath, List.of(source), after, "-classpath", classPath);
+
+    assertTrue(before.fingerprints.get(0).orElseThrow().startsWith("class:"));
+    assertNotEquals(after.fingerprints.get(0), before.fingerprints.get(0));
+  }
+
+  private CompilationUnit parse(String name, String value) {
+    return StaticJavaParser.parse(String.format(COMPONENT, name, value));
+  }
+
+  private Path writeComponent(Path projectPath, String name, String value) {
+    Path sourcePath = projectPath.resolve("src/main/java/io/nozdormu/check");
+    try {
+      Files.createDirectories(sourcePath);
+      return Files.writeString(
+          sourcePath.resolve(name + ".java"),
+          String.format(COMPONENT, name, value),
+          StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void compile(
+      Path projectPath, List<Path> sources, Processor processor, String... options)
+      throws IOException {
+    Path generatedSourcePath =
+        projectPath.resolve("build/generated/sources/annotationProcessor/java/main");
+    Files.createDirectories(generatedSourcePath);
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      List<String> compilerOptions = new ArrayList<>(List.of(options));
+      if (processor != null) {
+        compilerOptions.addAll(List.of("-proc:only", "-s", generatedSourcePath.toString()));
+      }
+      if (!compilerOptions.contains("-classpath")) {
+        compilerOptions.addAll(List.of("-classpath", System.getProperty("java.class.path")));
+      }
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              null,
+              compilerOptions,
+              null,
+              fileManager.getJavaFileObjects(sources.toArray(Path[]::new)));
+      if (processor != null) {
+        task.setProcessors(List.of(processor));
+      }
+      assertTrue(task.call());
+    }
+  }
+
+  @SupportedAnnotationTypes("*")
+  private static class FingerprintProcessor extends AbstractProcessor {
+
+    private final String qualifiedName;
+    private final Runnable betweenLookups;
+    private final List<Optional<String>> fingerprints = new ArrayList<>();
+    private ProcessorManager processorManager;
+
+    private FingerprintProcessor(String qualifiedName, Runnable betweenLookups) {
+      this.qualifiedName = qualifiedName;
+      this.betweenLookups = betweenLookups;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+      super.init(processingEnv);
+      this.processorManager =
+          new ProcessorManager(processingEnv, ProcessorManager.class.getClassLoader());
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+        processorManager.release();
+        return false;
+      }
+      TypeElement typeElement = processorManager.getTypeElement(qualifiedName).orElseThrow();
+      processorManager.setRoundEnv(roundEnv);
+      fingerprints.add(processorManager.getFingerprint(typeElement));
+      if (betweenLookups != null) {
+        betweenLookups.run();
+        fingerprints.add(processorManager.getFingerprint(typeElement));
+        processorManager.setRoundEnv(roundEnv);
+        fingerprints.add(processorManager.getFingerprint(typeElement));
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package io.nozdormu.common;
+
+import io.nozdormu.spi.decompiler.TypeElementDecompiler;
+import io.nozdormu.spi.decompiler.TypeElementDecompilerProvider;
+
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** records the types a ProcessorManager asks to decompile and decompiles none of them */
+public class CountingDecompilerProvider implements TypeElementDecompilerProvider {
+
+  static final List<String> DECOMPILED = new CopyOnWriteArrayList<>();
+
+  @Override
+  public TypeElementDecompiler create(ClassLoader classLoader) {
+    return new TypeElementDecompiler() {
+      @Override
+      public boolean canLoad(TypeElement typeElement) {
+        DECOMPILED.add(typeElement.getQualifiedName().toString());
+        return false;
+      }
+
+      @Override
+      public String decompile(TypeElement typeElement) {
+        DECOMPILED.add(typeElement.getQualifiedName().toString());
+        throw new UnsupportedOperationException(typeElement.getQualifiedName().toString());
+      }
+    };
+  }
+}
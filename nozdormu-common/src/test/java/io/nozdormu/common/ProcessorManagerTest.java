@@ -0,0 +1,145 @@
+package io.nozdormu.common;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.expr.NameExpr;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProcessorManagerTest {
+
+  private static final String PUMP =
+      String.join(
+          System.lineSeparator(),
+          "package io.nozdormu.check;",
+          "",
+          "import java.util.ArrayList;",
+          "import java.util.concurrent.TimeUnit;",
+          "",
+          "import static java.util.concurrent.TimeUnit.SECONDS;",
+          "",
+          "public class Pump extends ArrayList<String> {",
+          "",
+          "  private final TimeUnit unit = SECONDS;",
+          "}");
+
+  @Test
+  void testLibraryTypesNotDecompiled(@TempDir Path projectPath) throws IOException {
+    LookupProcessor processor = new LookupProcessor();
+    compile(projectPath, processor);
+
+    assertTrue(processor.extendedTypes.contains("java.util.ArrayList"));
+    assertTrue(processor.extendedTypes.contains("java.util.AbstractList"));
+    assertTrue(processor.implementedTypes.contains("java.util.List"));
+    assertTrue(processor.implementedTypes.contains("java.util.RandomAccess"));
+    assertTrue(processor.implementedTypes.contains("java.util.Collection"));
+    assertEquals(processor.declaringTypes, List.of("java.util.concurrent.TimeUnit"));
+    assertEquals(processor.decompiled, List.of());
+    // the decompiler is wired in, a declaration lookup of the same kind of type reaches it
+    assertEquals(processor.decompiledDeclaration, List.of("java.util.RandomAccess"));
+  }
+
+  private void compile(Path projectPath, LookupProcessor processor) throws IOException {
+    Path sourcePath = projectPath.resolve("src/main/java/io/nozdormu/check");
+    Path generatedSourcePath =
+        projectPath.resolve("build/generated/sources/annotationProcessor/java/main");
+    Files.createDirectories(sourcePath);
+    Files.createDirectories(generatedSourcePath);
+    Path source = Files.writeString(sourcePath.resolve("Pump.java"), PUMP, StandardCharsets.UTF_8);
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              null,
+              List.of(
+                  "-proc:only",
+                  "-classpath",
+                  System.getProperty("java.class.path"),
+                  "-s",
+                  generatedSourcePath.toString()),
+              null,
+              fileManager.getJavaFileObjects(source));
+      task.setProcessors(List.of(processor));
+      assertTrue(task.call());
+    }
+  }
+
+  @SupportedAnnotationTypes("*")
+  private static class LookupProcessor extends AbstractProcessor {
+
+    private ProcessorManager processorManager;
+    private List<String> extendedTypes;
+    private List<String> implementedTypes;
+    private List<String> declaringTypes;
+    private List<String> decompiled;
+    private List<String> decompiledDeclaration;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+      super.init(processingEnv);
+      this.processorManager =
+          new ProcessorManager(processingEnv, ProcessorManager.class.getClassLoader());
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+        processorManager.release();
+        return false;
+      }
+      processorManager.setRoundEnv(roundEnv);
+      CountingDecompilerProvider.DECOMPILED.clear();
+      CompilationUnit compilationUnit =
+          processorManager
+              .getCompilationUnit(processorManager.getTypeElement("io.nozdormu.check.Pump").get())
+              .orElseThrow();
+      ClassOrInterfaceDeclaration pump =
+          compilationUnit.getClassByName("Pump").orElseThrow();
+      extendedTypes = processorManager.getExtendedTypes(pump).collect(Collectors.toList());
+      implementedTypes =
+          processorManager.getImplementedTypes("java.util.ArrayList").collect(Collectors.toList());
+      declaringTypes =
+          compilationUnit.findAll(NameExpr.class).stream()
+              .filter(nameExpr -> nameExpr.getNameAsString().equals("SECONDS"))
+              .flatMap(processorManager::getMemberValueQualifiedName)
+              .collect(Collectors.toList());
+      decompiled = List.copyOf(CountingDecompilerProvider.DECOMPILED);
+
+      Optional<CompilationUnit> randomAccess =
+          processorManager.getCompilationUnit(
+              processorManager.getTypeElement("java.util.RandomAccess").get());
+      assertTrue(randomAccess.isEmpty());
+      decompiledDeclaration = List.copyOf(CountingDecompilerProvider.DECOMPILED);
+      return false;
+    }
+  }
+}
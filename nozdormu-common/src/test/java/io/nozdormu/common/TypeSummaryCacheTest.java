@@ -0,0 +1,104 @@
+package io.nozdormu.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeSummaryCacheTest {
+
+  private static final String SOURCE =
+      String.join(
+          System.lineSeparator(),
+          "package io.nozdormu.library;",
+          "",
+          "public class Pump {",
+          "",
+          "  // keeps its body",
+          "  public String getName() {",
+          "    return \"pump\";",
+          "  }",
+          "}");
+
+  @Test
+  void testKey(@TempDir Path dir) {
+    TypeSummaryCache typeSummaryCache = new TypeSummaryCache(dir);
+    String key = getKey(typeSummaryCache, "jar:file:/libs/pump-1.0.jar!/Pump.class", "v1");
+    assertEquals(getKey(typeSummaryCache, "jar:file:/libs/pump-1.0.jar!/Pump.class", "v1"), key);
+    assertEquals(
+        getKey(typeSummaryCache, "jar:file:/libs/pump-1.0.jar!/Valve.class", "v1"), key);
+    assertNotEquals(
+        getKey(typeSummaryCache, "jar:file:/libs/pump-1.1.jar!/Pump.class", "v1"), key);
+    assertNotEquals(
+        getKey(typeSummaryCache, "jar:file:/libs/pump-1.0.jar!/Pump.class", "v2"), key);
+    assertNotEquals(getKey(typeSummaryCache, "file:/classes/Pump.class", "v1"), key);
+    assertTrue(key.matches("[0-9a-f]+-[0-9a-f]+"));
+  }
+
+  @Test
+  void testRoundTrip(@TempDir Path dir) {
+    TypeSummaryCache typeSummaryCache = new TypeSummaryCache(dir);
+    String key = getKey(typeSummaryCache, "jar:file:/libs/pump-1.0.jar!/Pump.class", "v1");
+    assertEquals(typeSummaryCache.read("io.nozdormu.library.Pump", key), Optional.empty());
+
+    typeSummaryCache.write("io.nozdormu.library.Pump", key, SOURCE);
+    assertEquals(typeSummaryCache.read("io.nozdormu.library.Pump", key), Optional.of(SOURCE));
+    assertEquals(typeSummaryCache.read("io.nozdormu.library.Valve", key), Optional.empty());
+  }
+
+  @Test
+  void testInvalidation(@TempDir Path dir) throws Exception {
+    TypeSummaryCache typeSummaryCache = new TypeSummaryCache(dir);
+    String key = getKey(typeSummaryCache, "jar:file:/libs/pump-1.0.jar!/Pump.class", "v1");
+    typeSummaryCache.write("io.nozdormu.library.Pump", key, SOURCE);
+
+    String changedClassKey =
+        getKey(typeSummaryCache, "jar:file:/libs/pump-1.0.jar!/Pump.class", "v2");
+    String changedJarKey =
+        getKey(typeSummaryCache, "jar:file:/libs/pump-1.1.jar!/Pump.class", "v1");
+    assertEquals(
+        typeSummaryCache.read("io.nozdormu.library.Pump", changedClassKey), Optional.empty());
+    assertEquals(
+        typeSummaryCache.read("io.nozdormu.library.Pump", changedJarKey), Optional.empty());
+
+    String changedSource = SOURCE.replace("\"pump\"", "\"pump2\"");
+    typeSummaryCache.write("io.nozdormu.library.Pump", changedClassKey, changedSource);
+    assertEquals(
+        typeSummaryCache.read("io.nozdormu.library.Pump", changedClassKey),
+        Optional.of(changedSource));
+    assertEquals(typeSummaryCache.read("io.nozdormu.library.Pump", key), Optional.of(SOURCE));
+    try (Stream<Path> files = Files.walk(dir)) {
+      assertTrue(files.noneMatch(path -> path.toString().endsWith(".tmp")));
+    }
+  }
+
+  private String getKey(TypeSummaryCache typeSummaryCache, String location, String content) {
+    return typeSummaryCache.getKey(new ClassFile(location, content)).orElseThrow();
+  }
+
+  private static class ClassFile extends SimpleJavaFileObject {
+
+    private final byte[] bytes;
+
+    private ClassFile(String location, String content) {
+      super(URI.create(location), JavaFileObject.Kind.CLASS);
+      this.bytes = content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openInputStream() {
+      return new ByteArrayInputStream(bytes);
+    }
+  }
+}
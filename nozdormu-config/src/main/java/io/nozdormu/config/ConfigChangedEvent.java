@@ -0,0 +1,34 @@
+package io.nozdormu.config;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValue;
+
+import java.util.Objects;
+
+public class ConfigChangedEvent {
+
+  private final Config previous;
+
+  private final Config current;
+
+  public ConfigChangedEvent(Config previous, Config current) {
+    this.previous = previous;
+    this.current = current;
+  }
+
+  public Config getPrevious() {
+    return previous;
+  }
+
+  public Config getCurrent() {
+    return current;
+  }
+
+  public boolean isChanged(String path) {
+    return !Objects.equals(getValue(previous, path), getValue(current, path));
+  }
+
+  private ConfigValue getValue(Config config, String path) {
+    return config.hasPath(path) ? config.getValue(path) : null;
+  }
+}
@@ -0,0 +1,40 @@
+package io.nozdormu.config;
+
+import org.eclipse.microprofile.config.Config;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * holds the bound instance of a @ConfigProperties class, a new instance is bound and swapped in
+ * when the prefix changes, inject Provider to always read the latest one
+ */
+public final class ConfigHolder<T> implements Consumer<ConfigChangedEvent> {
+
+  private final String prefix;
+
+  private final Function<com.typesafe.config.Config, T> loader;
+
+  private volatile T instance;
+
+  public ConfigHolder(
+      Config config, String prefix, Function<com.typesafe.config.Config, T> loader) {
+    this.prefix = prefix;
+    this.loader = loader;
+    this.instance = loader.apply(config.unwrap(com.typesafe.config.Config.class));
+    if (config instanceof TypesafeConfig) {
+      ((TypesafeConfig) config).addChangeListener(this);
+    }
+  }
+
+  public T get() {
+    return instance;
+  }
+
+  @Override
+  public void accept(ConfigChangedEvent event) {
+    if (event.isChanged(prefix)) {
+      this.instance = loader.apply(event.getCurrent());
+    }
+  }
+}
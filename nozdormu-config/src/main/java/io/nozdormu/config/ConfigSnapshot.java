@@ -0,0 +1,269 @@
+package io.nozdormu.config;
+
+import com.typesafe.config.*;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.*;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * an immutable view of the config sources: the layered tree, a flattened property index and the
+ * values converted from it, replaced as a whole on reload
+ */
+final class ConfigSnapshot {
+
+  private static final Map<Class<?>, Class<?>> BOXED_TYPES =
+      Map.of(
+          boolean.class, Boolean.class,
+          int.class, Integer.class,
+          long.class, Long.class,
+          double.class, Double.class,
+          float.class, Float.class,
+          short.class, Short.class,
+          byte.class, Byte.class,
+          char.class, Character.class);
+
+  private final List<TypesafeConfigSource> sources;
+
+  private final Config config;
+
+  private final Map<String, TypesafeConfigValue> index;
+
+  private final TypesafeConfigSource environment;
+
+  private final ConcurrentHashMap<String, Optional<TypesafeConfigValue>> environmentValues =
+      new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, Converter<?>> converters;
+
+  private final ConcurrentHashMap<List<Object>, Object> values = new ConcurrentHashMap<>();
+
+  /** sources are layered by descending ordinal, equal ordinals keep their given order */
+  ConfigSnapshot(List<TypesafeConfigSource> sources, Map<Class<?>, Converter<?>> converters) {
+    this.converters = converters;
+    List<TypesafeConfigSource> sorted = new ArrayList<>(sources);
+    sorted.sort(Comparator.comparingInt(TypesafeConfigSource::getOrdinal).reversed());
+    this.sources = Collections.unmodifiableList(sorted);
+
+    HashMap<String, TypesafeConfigValue> index = new HashMap<>();
+    TypesafeConfigSource environment = null;
+    for (int i = sorted.size() - 1; i >= 0; i--) {
+      TypesafeConfigSource source = sorted.get(i);
+      if (source.getName().equals(TypesafeConfigSource.ENVIRONMENT_NAME)) {
+        environment = source;
+        continue;
+      }
+      source
+          .getConfig()
+          .entrySet()
+          .forEach(
+              entry ->
+                  index.put(
+                      entry.getKey(),
+                      new TypesafeConfigValue(
+                          entry.getKey(),
+                          entry.getValue(),
+                          source.getName(),
+                          source.getOrdinal())));
+    }
+
+    Map<String, Object> environmentValues = new HashMap<>();
+    if (environment != null) {
+      for (Map.Entry<String, TypesafeConfigValue> entry : index.entrySet()) {
+        if (entry.getValue().getSourceOrdinal() < environment.getOrdinal()) {
+          Optional<com.typesafe.config.ConfigValue> value =
+              getEnvironmentValue(environment, entry.getKey());
+          if (value.isPresent()) {
+            environmentValues.put(entry.getKey(), value.get().unwrapped());
+            entry.setValue(
+                new TypesafeConfigValue(
+                    entry.getKey(), value.get(), environment.getName(), environment.getOrdinal()));
+          }
+        }
+      }
+    }
+    this.index = Collections.unmodifiableMap(index);
+    this.environment = environment;
+
+    Config config = ConfigFactory.empty();
+    for (TypesafeConfigSource source : sorted) {
+      config =
+          config.withFallback(
+              source == environment
+                  ? ConfigFactory.parseMap(environmentValues, source.getName())
+                  : source.getConfig());
+    }
+    this.config = config;
+  }
+
+  /** MicroProfile env lookup: exact name, non alphanumerics replaced with _, then upper case */
+  private static Optional<com.typesafe.config.ConfigValue> getEnvironmentValue(
+      TypesafeConfigSource environment, String propertyName) {
+    String sanitized = propertyName.replace("\"", "").replaceAll("[^a-zA-Z0-9_]", "_");
+    return Stream.of(propertyName, sanitized, sanitized.toUpperCase())
+        .map(name -> environment.getConfigValue(ConfigUtil.joinPath(name)))
+        .filter(Objects::nonNull)
+        .findFirst();
+  }
+
+  Config getConfig() {
+    return config;
+  }
+
+  List<TypesafeConfigSource> getSources() {
+    return sources;
+  }
+
+  Map<String, TypesafeConfigValue> getIndex() {
+    return index;
+  }
+
+  boolean hasPath(String path) {
+    return index.containsKey(path) || config.hasPath(path) || lookup(path).isPresent();
+  }
+
+  /** the indexed value, or for a property no source declares, the environment variable for it */
+  Optional<TypesafeConfigValue> lookup(String path) {
+    TypesafeConfigValue indexed = index.get(path);
+    if (indexed != null || environment == null) {
+      return Optional.ofNullable(indexed);
+    }
+    return environmentValues.computeIfAbsent(
+        path,
+        key ->
+            getEnvironmentValue(environment, key)
+                .map(
+                    value ->
+                        new TypesafeConfigValue(
+                            key, value, environment.getName(), environment.getOrdinal())));
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> T getValue(String path, Class<T> type) {
+    Converter<?> converter = converters.get(BOXED_TYPES.getOrDefault(type, type));
+    if (converter != null) {
+      return (T) values.computeIfAbsent(List.of(path, type), key -> convert(converter, path));
+    }
+    if (type == ByteBuffer.class || type == String.class && isFileReference(path)) {
+      FileReference fileReference = getValue(path, FileReference.class);
+      return (T) (type == String.class ? fileReference.asString() : fileReference.asByteBuffer());
+    }
+    if (!isScalar(type.isArray() ? type.getComponentType() : type)) {
+      try {
+        return ConfigBeanFactory.create(config.getConfig(path), type);
+      } catch (ConfigException.Missing e) {
+        throw new NoSuchElementException(e.getMessage());
+      }
+    }
+    Object value =
+        values.computeIfAbsent(
+            List.of(path, type),
+            key -> {
+              TypesafeConfigValue indexed = lookup(path).orElse(null);
+              return indexed != null
+                  ? convert(indexed.getConfigValue().atKey("value"), "value", type)
+                  : convert(config, path, type);
+            });
+    if (type.isArray()) {
+      int length = Array.getLength(value);
+      Object copy = Array.newInstance(type.getComponentType(), length);
+      System.arraycopy(value, 0, copy, 0, length);
+      return (T) copy;
+    }
+    return (T) value;
+  }
+
+  private boolean isFileReference(String path) {
+    TypesafeConfigValue indexed = lookup(path).orElse(null);
+    return indexed != null && FileReference.isReference(indexed.getValue());
+  }
+
+  private Object convert(Converter<?> converter, String path) {
+    TypesafeConfigValue indexed = lookup(path).orElse(null);
+    String value = indexed != null ? indexed.getValue() : null;
+    Object converted = value != null ? converter.convert(value) : null;
+    if (converted == null) {
+      throw new NoSuchElementException(path);
+    }
+    return converted;
+  }
+
+  static boolean isScalar(Class<?> type) {
+    return type.isPrimitive()
+        || BOXED_TYPES.containsValue(type)
+        || type.isEnum()
+        || type == String.class
+        || type == Number.class
+        || type == Duration.class
+        || type == ConfigMemorySize.class
+        || type == List.class
+        || type == FileReference.class
+        || type == ByteBuffer.class;
+  }
+
+  static Object convert(Config config, String path, Class<?> type) {
+    try {
+      if (type.isArray()) {
+        List<? extends ConfigValue> list = config.getList(path);
+        Object array = Array.newInstance(type.getComponentType(), list.size());
+        for (int i = 0; i < list.size(); i++) {
+          Config element = list.get(i).atKey("value");
+          Array.set(array, i, convert(element, "value", type.getComponentType()));
+        }
+        return array;
+      }
+      return convertScalar(config, path, BOXED_TYPES.getOrDefault(type, type));
+    } catch (ConfigException.Missing e) {
+      throw new NoSuchElementException(e.getMessage());
+    } catch (ConfigException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object convertScalar(Config config, String path, Class<?> type) {
+    if (type == String.class) {
+      return config.getString(path);
+    } else if (type == Boolean.class) {
+      return config.getBoolean(path);
+    } else if (type == Integer.class) {
+      return config.getInt(path);
+    } else if (type == Long.class) {
+      return config.getLong(path);
+    } else if (type == Double.class) {
+      return config.getDouble(path);
+    } else if (type == Float.class) {
+      return (float) config.getDouble(path);
+    } else if (type == Short.class) {
+      return (short) config.getInt(path);
+    } else if (type == Byte.class) {
+      return (byte) config.getInt(path);
+    } else if (type == Character.class) {
+      String value = config.getString(path);
+      if (value.length() != 1) {
+        throw new IllegalArgumentException(path + " is not a single character: " + value);
+      }
+      return value.charAt(0);
+    } else if (type == Number.class) {
+      return config.getNumber(path);
+    } else if (type == Duration.class) {
+      return config.getDuration(path);
+    } else if (type == ConfigMemorySize.class) {
+      return config.getMemorySize(path);
+    } else if (type == FileReference.class) {
+      return FileReference.of(config.getString(path));
+    } else if (type == ByteBuffer.class) {
+      return FileReference.of(config.getString(path)).asByteBuffer();
+    } else if (type == List.class) {
+      return List.copyOf(config.getAnyRefList(path));
+    } else if (type.isEnum()) {
+      return config.getEnum((Class) type, path);
+    }
+    throw new IllegalArgumentException("unsupported type " + type.getName() + " of " + path);
+  }
+}
@@ -0,0 +1,175 @@
+package io.nozdormu.config;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValueType;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/** compact binary form of a resolved config, a flat table of path to value */
+public final class ConfigSnapshotCodec {
+
+  public static final String RESOURCE_NAME = "META-INF/nozdormu/config.snapshot";
+
+  private static final int MAGIC = 0x4e5a4353;
+  private static final int VERSION = 1;
+
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte DOUBLE = 5;
+  private static final byte LIST = 6;
+  private static final byte OBJECT = 7;
+
+  private ConfigSnapshotCodec() {}
+
+  public static void write(Config config, OutputStream outputStream) throws IOException {
+    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+    // entrySet() skips null values and empty objects, both are kept in the snapshot
+    Map<String, Object> values = new LinkedHashMap<>();
+    flatten(config.root(), new ArrayList<>(), values);
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(values.size());
+    for (Map.Entry<String, Object> entry : values.entrySet()) {
+      writeString(output, entry.getKey());
+      writeValue(output, entry.getValue());
+    }
+    output.flush();
+  }
+
+  public static Config read(InputStream inputStream, String description) throws IOException {
+    DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+    if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+      throw new IOException("unsupported config snapshot: " + description);
+    }
+    int size = input.readInt();
+    Map<String, Object> values = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      values.put(readString(input), readValue(input));
+    }
+    return ConfigFactory.parseMap(values, description);
+  }
+
+  /** all snapshots on the classpath merged, an earlier one wins like application.conf does */
+  public static Optional<Config> read(ClassLoader classLoader) {
+    try {
+      Config merged = null;
+      Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+      while (resources.hasMoreElements()) {
+        URL resource = resources.nextElement();
+        try (InputStream inputStream = resource.openStream()) {
+          Config config = read(inputStream, resource.toString());
+          merged = merged == null ? config : merged.withFallback(config);
+        }
+      }
+      return Optional.ofNullable(merged);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void flatten(ConfigObject object, List<String> path, Map<String, Object> values) {
+    for (Map.Entry<String, com.typesafe.config.ConfigValue> entry : object.entrySet()) {
+      path.add(entry.getKey());
+      com.typesafe.config.ConfigValue value = entry.getValue();
+      if (value.valueType() == ConfigValueType.OBJECT && !((ConfigObject) value).isEmpty()) {
+        flatten((ConfigObject) value, path, values);
+      } else {
+        values.put(ConfigUtil.joinPath(path), value.unwrapped());
+      }
+      path.remove(path.size() - 1);
+    }
+  }
+
+  private static void writeValue(DataOutputStream output, Object value) throws IOException {
+    if (value == null) {
+      output.writeByte(NULL);
+    } else if (value instanceof String) {
+      output.writeByte(STRING);
+      writeString(output, (String) value);
+    } else if (value instanceof Boolean) {
+      output.writeByte(BOOLEAN);
+      output.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      output.writeByte(INT);
+      output.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      output.writeByte(LONG);
+      output.writeLong((Long) value);
+    } else if (value instanceof Number) {
+      output.writeByte(DOUBLE);
+      output.writeDouble(((Number) value).doubleValue());
+    } else if (value instanceof List) {
+      List<?> list = (List<?>) value;
+      output.writeByte(LIST);
+      output.writeInt(list.size());
+      for (Object item : list) {
+        writeValue(output, item);
+      }
+    } else if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      output.writeByte(OBJECT);
+      output.writeInt(map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        writeString(output, entry.getKey().toString());
+        writeValue(output, entry.getValue());
+      }
+    } else {
+      throw new IOException("unsupported config value type: " + value.getClass().getName());
+    }
+  }
+
+  private static Object readValue(DataInputStream input) throws IOException {
+    byte type = input.readByte();
+    switch (type) {
+      case NULL:
+        return null;
+      case STRING:
+        return readString(input);
+      case BOOLEAN:
+        return input.readBoolean();
+      case INT:
+        return input.readInt();
+      case LONG:
+        return input.readLong();
+      case DOUBLE:
+        return input.readDouble();
+      case LIST:
+        int length = input.readInt();
+        List<Object> list = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          list.add(readValue(input));
+        }
+        return list;
+      case OBJECT:
+        int size = input.readInt();
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+          map.put(readString(input), readValue(input));
+        }
+        return map;
+      default:
+        throw new IOException("unknown config value type: " + type);
+    }
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(DataInputStream input) throws IOException {
+    byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,75 @@
+package io.nozdormu.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+final class ConfigWatcher implements Runnable {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConfigWatcher.class);
+
+  private final WatchService watchService;
+
+  private final Duration debounce;
+
+  private final Runnable onChange;
+
+  private final Thread thread;
+
+  ConfigWatcher(Collection<Path> paths, Duration debounce, Runnable onChange) throws IOException {
+    this.watchService = FileSystems.getDefault().newWatchService();
+    this.debounce = debounce;
+    this.onChange = onChange;
+    for (Path path : paths) {
+      Path directory = Files.isDirectory(path) ? path : path.toAbsolutePath().getParent();
+      if (directory != null && Files.isDirectory(directory)) {
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        logger.info("watching config path: {}", directory);
+      }
+    }
+    this.thread = new Thread(this, "nozdormu-config-watcher");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        drain(watchService.take());
+        WatchKey next;
+        while ((next = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+          drain(next);
+        }
+        try {
+          onChange.run();
+        } catch (RuntimeException e) {
+          logger.error(e.getMessage(), e);
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      logger.info("config watcher stopped");
+    }
+  }
+
+  private void drain(WatchKey watchKey) {
+    watchKey.pollEvents();
+    watchKey.reset();
+  }
+
+  void close() {
+    thread.interrupt();
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package io.nozdormu.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * a config value written as "${file:/path}", the file is memory mapped on first access and only
+ * copied to the heap when read as a string
+ */
+public final class FileReference {
+
+  private static final Pattern REFERENCE_PATTERN = Pattern.compile("^\\$\\{file:(.+)}$");
+
+  private final Path path;
+
+  private volatile MappedByteBuffer buffer;
+
+  private FileReference(Path path) {
+    this.path = path;
+  }
+
+  public static Optional<FileReference> parse(String value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    Matcher matcher = REFERENCE_PATTERN.matcher(value.trim());
+    if (matcher.matches()) {
+      return Optional.of(new FileReference(Paths.get(matcher.group(1))));
+    }
+    return Optional.empty();
+  }
+
+  /** a reference or a plain path */
+  public static FileReference of(String value) {
+    return parse(value).orElseGet(() -> new FileReference(Paths.get(value)));
+  }
+
+  /** the file contents for a reference, any other value as it is */
+  public static String resolve(String value) {
+    return parse(value).map(FileReference::asString).orElse(value);
+  }
+
+  public static boolean isReference(String value) {
+    return value != null && REFERENCE_PATTERN.matcher(value.trim()).matches();
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  public long size() {
+    return map().capacity();
+  }
+
+  /** a read only view of the mapped file, positioned at zero */
+  public ByteBuffer asByteBuffer() {
+    return map().asReadOnlyBuffer();
+  }
+
+  public String asString() {
+    return asString(StandardCharsets.UTF_8);
+  }
+
+  public String asString(Charset charset) {
+    return charset.decode(asByteBuffer()).toString();
+  }
+
+  private MappedByteBuffer map() {
+    MappedByteBuffer mapped = buffer;
+    if (mapped == null) {
+      synchronized (this) {
+        mapped = buffer;
+        if (mapped == null) {
+          try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+              throw new IllegalStateException(
+                  path
+                      + " is "
+                      + size
+                      + " bytes, a file reference maps at most "
+                      + Integer.MAX_VALUE
+                      + " bytes, read larger files from getPath() as a stream");
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer = mapped;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+      }
+    }
+    return mapped;
+  }
+
+  @Override
+  public String toString() {
+    return "${file:" + path + "}";
+  }
+}
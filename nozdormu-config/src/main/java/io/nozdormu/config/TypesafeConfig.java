@@ -1,6 +1,7 @@
 package io.nozdormu.config;
 
 import com.typesafe.config.*;
+import io.nozdormu.spi.context.BeanContext;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigValue;
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -12,94 +13,169 @@ import javax.annotation.processing.Filer;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
-import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.*;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class TypesafeConfig implements Config {
 
   private static final Logger logger = LoggerFactory.getLogger(TypesafeConfig.class);
 
-  private com.typesafe.config.Config config;
+  public static final Duration DEFAULT_WATCH_DEBOUNCE = Duration.ofMillis(500);
+
+  private final List<Path> mergedPaths = new CopyOnWriteArrayList<>();
+
+  private final List<Consumer<ConfigChangedEvent>> changeListeners = new CopyOnWriteArrayList<>();
+
+  private final List<TypesafeConfigSource> fileSources = new ArrayList<>();
+
+  private final Map<Class<?>, Converter<?>> converters;
+
+  private final Map<Class<?>, Converter<?>> converterCache = new ConcurrentHashMap<>();
+
+  private List<TypesafeConfigSource> baseSources;
+
+  private volatile ConfigSnapshot snapshot;
+
+  private ConfigWatcher watcher;
 
   public TypesafeConfig() {
-    this.config = ConfigFactory.load(ConfigParseOptions.defaults());
+    this(
+        Thread.currentThread().getContextClassLoader() != null
+            ? Thread.currentThread().getContextClassLoader()
+            : TypesafeConfig.class.getClassLoader());
   }
 
   public TypesafeConfig(ClassLoader classLoader) {
-    this.config = ConfigFactory.load(classLoader);
+    this(TypesafeConfigSource.defaultSources(classLoader), Map.of());
+  }
+
+  public TypesafeConfig(
+      List<TypesafeConfigSource> sources, Map<Class<?>, Converter<?>> converters) {
+    this.baseSources = List.copyOf(sources);
+    this.converters = Map.copyOf(converters);
+    this.snapshot = buildSnapshot();
   }
 
   @Override
   public <T> T getValue(String propertyName, Class<T> propertyType) {
-    return ConfigBeanFactory.create(config.getConfig(propertyName), propertyType);
+    return snapshot.getValue(propertyName, propertyType);
   }
 
   @Override
   public ConfigValue getConfigValue(String propertyName) {
-    return new TypesafeConfigValue(config.getValue(propertyName));
+    return snapshot
+        .lookup(propertyName)
+        .orElseGet(() -> new TypesafeConfigValue(propertyName, null, null, 0));
   }
 
   @Override
   public <T> Optional<T> getOptionalValue(String propertyName, Class<T> propertyType) {
-    if (config.hasPath(propertyName)) {
-      return Optional.of(getValue(propertyName, propertyType));
+    ConfigSnapshot current = snapshot;
+    if (current.hasPath(propertyName)) {
+      return Optional.of(current.getValue(propertyName, propertyType));
     }
     return Optional.empty();
   }
 
   @Override
   public Iterable<String> getPropertyNames() {
-    return config.root().keySet();
+    return snapshot.getIndex().keySet();
   }
 
   @Override
   public Iterable<ConfigSource> getConfigSources() {
-    return List.of();
+    return Collections.unmodifiableList(snapshot.getSources());
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <T> Optional<Converter<T>> getConverter(Class<T> forType) {
-    return Optional.of(new TypesafeConverter<>(forType));
+    return Optional.of(
+        (Converter<T>)
+            converterCache.computeIfAbsent(
+                forType,
+                type -> {
+                  Converter<?> converter = converters.get(type);
+                  return converter != null ? converter : new TypesafeConverter<>(type);
+                }));
   }
 
   @Override
   public <T> T unwrap(Class<T> type) {
-    if (type.isInstance(config)) {
-      return type.cast(config);
+    com.typesafe.config.Config current = snapshot.getConfig();
+    if (type.isInstance(current)) {
+      return type.cast(current);
     }
     throw new IllegalArgumentException("Unsupported unwrap type: " + type.getName());
   }
 
   public void merge(Stream<Path> pathStream) {
-    pathStream
-        .filter(
-            path ->
-                path.toString().endsWith(".conf")
-                    || path.toString().endsWith(".json")
-                    || path.toString().endsWith(".properties"))
-        .forEach(
-            path -> {
-              try {
-                this.config = this.config.withFallback(ConfigFactory.parseFile(path.toFile()));
-              } catch (ConfigException e) {
-                logger.info("{} Ignored", e.origin().filename());
-              }
-            });
+    synchronized (mergedPaths) {
+      pathStream
+          .filter(TypesafeConfig::isConfigFile)
+          .forEach(
+              path -> {
+                mergedPaths.add(path);
+                fileSources.addAll(parse(path));
+              });
+      this.snapshot = buildSnapshot();
+    }
   }
 
   public void merge(Path path) {
     if (Files.exists(path)) {
+      synchronized (mergedPaths) {
+        mergedPaths.add(path);
+        fileSources.addAll(parse(path));
+        this.snapshot = buildSnapshot();
+      }
+    }
+  }
+
+  private ConfigSnapshot buildSnapshot() {
+    List<TypesafeConfigSource> sources = new ArrayList<>(baseSources);
+    sources.addAll(fileSources);
+    return new ConfigSnapshot(sources, converters);
+  }
+
+  private static boolean isConfigFile(Path path) {
+    return path.toString().endsWith(".conf")
+        || path.toString().endsWith(".json")
+        || path.toString().endsWith(".properties");
+  }
+
+  private static List<TypesafeConfigSource> parse(Path path) {
+    List<TypesafeConfigSource> sources = new ArrayList<>();
+    for (Path file : listConfigFiles(path)) {
+      try {
+        sources.add(TypesafeConfigSource.file(file));
+      } catch (ConfigException e) {
+        logger.info("{} Ignored", e.origin().filename());
+      }
+    }
+    return sources;
+  }
+
+  private static List<Path> listConfigFiles(Path path) {
+    if (Files.isDirectory(path)) {
       try (Stream<Path> pathStream = Files.list(path)) {
-        merge(pathStream);
+        return pathStream.filter(TypesafeConfig::isConfigFile).collect(Collectors.toList());
       } catch (IOException e) {
         logger.error(e.getMessage(), e);
       }
+    } else if (Files.exists(path)) {
+      return List.of(path);
     }
+    return List.of();
   }
 
   public TypesafeConfig merge(String pathName) {
@@ -114,26 +190,121 @@ public class TypesafeConfig implements Config {
     return this;
   }
 
+  /** the resources of the source set being compiled, test resources only for test sources */
+  public TypesafeConfig loadResources(Filer filer) {
+    reset();
+    Path generatedSourcePath = getGeneratedSourcePath(filer);
+    merge(getResourcesPath(generatedSourcePath));
+    if (generatedSourcePath.getFileName().toString().equals("test")) {
+      merge(getTestResourcesPath(generatedSourcePath));
+    }
+    return this;
+  }
+
+  /**
+   * the files {@link #loadResources(Filer)} reads, layered in the same order but unresolved, so no
+   * substitution is bound to the system properties or environment of the build
+   */
+  public static com.typesafe.config.Config parseResources(Filer filer) {
+    Path generatedSourcePath = getGeneratedSourcePath(filer);
+    List<Path> paths = new ArrayList<>(List.of(getResourcesPath(generatedSourcePath)));
+    if (generatedSourcePath.getFileName().toString().equals("test")) {
+      paths.add(getTestResourcesPath(generatedSourcePath));
+    }
+    com.typesafe.config.Config config = ConfigFactory.empty();
+    for (Path path : paths) {
+      for (Path file : listConfigFiles(path)) {
+        try {
+          config = config.withFallback(ConfigFactory.parseFile(file.toFile()));
+        } catch (ConfigException e) {
+          logger.info("{} Ignored", e.origin().filename());
+        }
+      }
+    }
+    return config;
+  }
+
   public TypesafeConfig load(String pathName) {
-    this.config = ConfigFactory.empty();
+    reset();
     return merge(pathName);
   }
 
   public TypesafeConfig load(Filer filer) {
-    this.config = ConfigFactory.empty();
+    reset();
     return merge(filer);
   }
 
-  private Path getGeneratedSourcePath(Filer filer) {
+  private void reset() {
+    synchronized (mergedPaths) {
+      mergedPaths.clear();
+      fileSources.clear();
+      this.baseSources = List.of();
+      this.snapshot = buildSnapshot();
+    }
+  }
+
+  public void addChangeListener(Consumer<ConfigChangedEvent> listener) {
+    changeListeners.add(listener);
+  }
+
+  public void removeChangeListener(Consumer<ConfigChangedEvent> listener) {
+    changeListeners.remove(listener);
+  }
+
+  /** re-parse the merged paths into a new snapshot and publish it if anything changed */
+  public void reload() {
+    ConfigChangedEvent event;
+    synchronized (mergedPaths) {
+      fileSources.clear();
+      mergedPaths.forEach(path -> fileSources.addAll(parse(path)));
+      ConfigSnapshot reloaded = buildSnapshot();
+      com.typesafe.config.Config previous = snapshot.getConfig();
+      if (previous.root().equals(reloaded.getConfig().root())) {
+        return;
+      }
+      this.snapshot = reloaded;
+      event = new ConfigChangedEvent(previous, reloaded.getConfig());
+    }
+    logger.info("config reloaded");
+    changeListeners.forEach(
+        listener -> {
+          try {
+            listener.accept(event);
+          } catch (RuntimeException e) {
+            logger.error(e.getMessage(), e);
+          }
+        });
+    BeanContext.getEvent(ConfigChangedEvent.class).fire(event);
+  }
+
+  public TypesafeConfig watch() {
+    return watch(DEFAULT_WATCH_DEBOUNCE);
+  }
+
+  public synchronized TypesafeConfig watch(Duration debounce) {
+    if (watcher == null) {
+      try {
+        watcher = new ConfigWatcher(mergedPaths, debounce, this::reload);
+      } catch (IOException e) {
+        logger.error(e.getMessage(), e);
+        throw new RuntimeException(e);
+      }
+    }
+    return this;
+  }
+
+  public synchronized void unwatch() {
+    if (watcher != null) {
+      watcher.close();
+      watcher = null;
+    }
+  }
+
+  private static Path getGeneratedSourcePath(Filer filer) {
     try {
-      FileObject tmp =
-          filer.createResource(StandardLocation.SOURCE_OUTPUT, "", UUID.randomUUID().toString());
-      Writer writer = tmp.openWriter();
-      writer.write("");
-      writer.close();
-      Path path = Paths.get(tmp.toUri());
-      Files.deleteIfExists(path);
-      Path generatedSourcePath = path.getParent();
+      // only looked up like in ProcessorManager, nothing is written to the source output
+      FileObject probe = filer.getResource(StandardLocation.SOURCE_OUTPUT, "", "nozdormu");
+      Path generatedSourcePath = Paths.get(probe.toUri()).getParent();
       logger.info("generated source path: {}", generatedSourcePath.toString());
       return generatedSourcePath;
     } catch (IOException e) {
@@ -142,7 +313,7 @@ public class TypesafeConfig implements Config {
     }
   }
 
-  private Path getResourcesPath(Path generatedSourcePath) {
+  private static Path getResourcesPath(Path generatedSourcePath) {
     Path sourcePath =
         generatedSourcePath
             .getParent()
@@ -156,7 +327,7 @@ public class TypesafeConfig implements Config {
     return sourcePath;
   }
 
-  private Path getTestResourcesPath(Path generatedSourcePath) {
+  private static Path getTestResourcesPath(Path generatedSourcePath) {
     Path sourcePath =
         generatedSourcePath
             .getParent()
@@ -1,23 +1,33 @@
 package io.nozdormu.config;
 
 import com.google.auto.service.AutoService;
+import jakarta.annotation.Priority;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigBuilder;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
 import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.eclipse.microprofile.config.spi.Converter;
-import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
 
 @AutoService(ConfigProviderResolver.class)
 public class TypesafeConfigProviderResolver extends ConfigProviderResolver {
 
+  public static final int DEFAULT_CONVERTER_PRIORITY = 100;
+
+  private final Map<ClassLoader, Config> configs = Collections.synchronizedMap(new WeakHashMap<>());
+
   @Override
   public Config getConfig() {
-    return new TypesafeConfig();
+    return getConfig(Thread.currentThread().getContextClassLoader());
   }
 
   @Override
   public Config getConfig(ClassLoader loader) {
-    return new TypesafeConfig(loader);
+    return configs.computeIfAbsent(getClassLoader(loader), TypesafeConfig::new);
   }
 
   @Override
@@ -26,27 +36,57 @@ public class TypesafeConfigProviderResolver extends ConfigProviderResolver {
   }
 
   @Override
-  public void registerConfig(Config config, ClassLoader classLoader) {}
+  public void registerConfig(Config config, ClassLoader classLoader) {
+    if (configs.putIfAbsent(getClassLoader(classLoader), config) != null) {
+      throw new IllegalStateException("config already registered for " + classLoader);
+    }
+  }
 
   @Override
-  public void releaseConfig(Config config) {}
+  public void releaseConfig(Config config) {
+    configs.values().removeIf(registered -> registered == config);
+    if (config instanceof TypesafeConfig) {
+      ((TypesafeConfig) config).unwatch();
+    }
+  }
+
+  private static ClassLoader getClassLoader(ClassLoader classLoader) {
+    return classLoader != null
+        ? classLoader
+        : TypesafeConfigProviderResolver.class.getClassLoader();
+  }
 
   private static final class SimpleConfigBuilder implements ConfigBuilder {
 
     private ClassLoader classLoader;
 
+    private boolean defaultSources;
+
+    private boolean discoveredSources;
+
+    private boolean discoveredConverters;
+
+    private final List<ConfigSource> sources = new ArrayList<>();
+
+    private final Map<Class<?>, Integer> converterPriorities = new HashMap<>();
+
+    private final Map<Class<?>, Converter<?>> converters = new HashMap<>();
+
     @Override
     public ConfigBuilder addDefaultSources() {
+      this.defaultSources = true;
       return this;
     }
 
     @Override
     public ConfigBuilder addDiscoveredSources() {
+      this.discoveredSources = true;
       return this;
     }
 
     @Override
     public ConfigBuilder addDiscoveredConverters() {
+      this.discoveredConverters = true;
       return this;
     }
 
@@ -58,24 +98,81 @@ public class TypesafeConfigProviderResolver extends ConfigProviderResolver {
 
     @Override
     public ConfigBuilder withSources(ConfigSource... sources) {
+      this.sources.addAll(Arrays.asList(sources));
       return this;
     }
 
     @Override
     public ConfigBuilder withConverters(Converter<?>... converters) {
+      for (Converter<?> converter : converters) {
+        Class<?> type = getConverterType(converter.getClass());
+        if (type == null) {
+          throw new IllegalArgumentException(
+              "can't find converted type of " + converter.getClass().getName());
+        }
+        Priority priority = converter.getClass().getAnnotation(Priority.class);
+        addConverter(
+            type, priority != null ? priority.value() : DEFAULT_CONVERTER_PRIORITY, converter);
+      }
       return this;
     }
 
     @Override
     public <T> ConfigBuilder withConverter(Class<T> type, int priority, Converter<T> converter) {
+      addConverter(type, priority, converter);
       return this;
     }
 
+    /** the highest priority wins, a later converter replaces one of the same priority */
+    private void addConverter(Class<?> type, int priority, Converter<?> converter) {
+      Integer current = converterPriorities.get(type);
+      if (current == null || priority >= current) {
+        converterPriorities.put(type, priority);
+        converters.put(type, converter);
+      }
+    }
+
+    private static Class<?> getConverterType(Class<?> converterClass) {
+      for (Class<?> current = converterClass; current != null; current = current.getSuperclass()) {
+        for (Type genericInterface : current.getGenericInterfaces()) {
+          if (genericInterface instanceof ParameterizedType
+              && ((ParameterizedType) genericInterface).getRawType() == Converter.class) {
+            Type argument = ((ParameterizedType) genericInterface).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+              return (Class<?>) argument;
+            } else if (argument instanceof ParameterizedType) {
+              return (Class<?>) ((ParameterizedType) argument).getRawType();
+            }
+          }
+        }
+      }
+      return null;
+    }
+
     @Override
     public Config build() {
       ClassLoader effectiveLoader =
-          classLoader != null ? classLoader : Thread.currentThread().getContextClassLoader();
-      return effectiveLoader != null ? new TypesafeConfig(effectiveLoader) : new TypesafeConfig();
+          getClassLoader(
+              classLoader != null ? classLoader : Thread.currentThread().getContextClassLoader());
+      List<TypesafeConfigSource> configSources = new ArrayList<>();
+      if (defaultSources || (!discoveredSources && sources.isEmpty())) {
+        configSources.addAll(TypesafeConfigSource.defaultSources(effectiveLoader));
+      }
+      if (discoveredSources) {
+        ServiceLoader.load(ConfigSource.class, effectiveLoader)
+            .forEach(source -> configSources.add(TypesafeConfigSource.of(source)));
+        ServiceLoader.load(ConfigSourceProvider.class, effectiveLoader)
+            .forEach(
+                provider ->
+                    provider
+                        .getConfigSources(effectiveLoader)
+                        .forEach(source -> configSources.add(TypesafeConfigSource.of(source))));
+      }
+      sources.forEach(source -> configSources.add(TypesafeConfigSource.of(source)));
+      if (discoveredConverters) {
+        ServiceLoader.load(Converter.class, effectiveLoader).forEach(this::withConverters);
+      }
+      return new TypesafeConfig(configSources, converters);
     }
   }
 }
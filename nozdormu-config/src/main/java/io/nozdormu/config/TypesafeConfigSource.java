@@ -0,0 +1,151 @@
+package io.nozdormu.config;
+
+import com.typesafe.config.*;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class TypesafeConfigSource implements ConfigSource {
+
+  public static final int SYSTEM_PROPERTIES_ORDINAL = 400;
+
+  public static final int ENVIRONMENT_ORDINAL = 300;
+
+  public static final String ENVIRONMENT_NAME = "EnvConfigSource";
+
+  private final String name;
+
+  private final Config config;
+
+  private final int ordinal;
+
+  private final Map<String, com.typesafe.config.ConfigValue> values;
+
+  private final Map<String, String> properties;
+
+  public TypesafeConfigSource(String name, Config config, int defaultOrdinal) {
+    this.name = name;
+    this.config = config;
+    this.ordinal =
+        config.hasPath(CONFIG_ORDINAL) ? config.getInt(CONFIG_ORDINAL) : defaultOrdinal;
+    Map<String, com.typesafe.config.ConfigValue> values = new HashMap<>();
+    Map<String, String> properties = new HashMap<>();
+    config
+        .entrySet()
+        .forEach(
+            entry -> {
+              values.put(entry.getKey(), entry.getValue());
+              properties.put(entry.getKey(), render(entry.getValue()));
+            });
+    this.values = Collections.unmodifiableMap(values);
+    this.properties = Collections.unmodifiableMap(properties);
+  }
+
+  public static List<TypesafeConfigSource> defaultSources(ClassLoader classLoader) {
+    return List.of(systemProperties(), environment(), classpath(classLoader));
+  }
+
+  /** adapts a MicroProfile source, property names that are no valid path become one key */
+  public static TypesafeConfigSource of(ConfigSource configSource) {
+    if (configSource instanceof TypesafeConfigSource) {
+      return (TypesafeConfigSource) configSource;
+    }
+    Map<String, String> properties = new HashMap<>();
+    configSource
+        .getProperties()
+        .forEach(
+            (propertyName, value) -> {
+              try {
+                ConfigUtil.splitPath(propertyName);
+                properties.put(propertyName, value);
+              } catch (ConfigException e) {
+                properties.put(ConfigUtil.quoteString(propertyName), value);
+              }
+            });
+    return new TypesafeConfigSource(
+        configSource.getName(),
+        ConfigFactory.parseMap(properties, configSource.getName()),
+        configSource.getOrdinal());
+  }
+
+  public static TypesafeConfigSource systemProperties() {
+    return new TypesafeConfigSource(
+        "SysPropConfigSource", ConfigFactory.systemProperties(), SYSTEM_PROPERTIES_ORDINAL);
+  }
+
+  public static TypesafeConfigSource environment() {
+    return new TypesafeConfigSource(
+        ENVIRONMENT_NAME, ConfigFactory.systemEnvironment(), ENVIRONMENT_ORDINAL);
+  }
+
+  /** the build time snapshot replaces parsing application.conf when it is on the classpath */
+  public static TypesafeConfigSource classpath(ClassLoader classLoader) {
+    Config config =
+        ConfigSnapshotCodec.read(classLoader)
+            .map(snapshot -> snapshot.withFallback(ConfigFactory.defaultReference(classLoader)))
+            .orElseGet(
+                () ->
+                    resolve(
+                        ConfigFactory.defaultApplication(classLoader)
+                            .withFallback(ConfigFactory.defaultReference(classLoader))));
+    return new TypesafeConfigSource("ClasspathConfigSource", config, ConfigSource.DEFAULT_ORDINAL);
+  }
+
+  public static TypesafeConfigSource file(Path path) {
+    return new TypesafeConfigSource(
+        "FileConfigSource[" + path + "]",
+        resolve(ConfigFactory.parseFile(path.toFile())),
+        ConfigSource.DEFAULT_ORDINAL);
+  }
+
+  private static Config resolve(Config config) {
+    return config.resolveWith(ConfigFactory.systemProperties().withFallback(config));
+  }
+
+  static String render(com.typesafe.config.ConfigValue value) {
+    if (value.valueType() == ConfigValueType.LIST) {
+      return ((ConfigList) value)
+          .stream().map(TypesafeConfigSource::render).collect(Collectors.joining(","));
+    } else if (value.valueType() == ConfigValueType.NULL) {
+      return null;
+    } else if (value.valueType() == ConfigValueType.OBJECT) {
+      return value.render(ConfigRenderOptions.concise());
+    }
+    return String.valueOf(value.unwrapped());
+  }
+
+  public Config getConfig() {
+    return config;
+  }
+
+  com.typesafe.config.ConfigValue getConfigValue(String propertyName) {
+    return values.get(propertyName);
+  }
+
+  @Override
+  public Map<String, String> getProperties() {
+    return properties;
+  }
+
+  @Override
+  public Set<String> getPropertyNames() {
+    return properties.keySet();
+  }
+
+  @Override
+  public String getValue(String propertyName) {
+    return properties.get(propertyName);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public int getOrdinal() {
+    return ordinal;
+  }
+}
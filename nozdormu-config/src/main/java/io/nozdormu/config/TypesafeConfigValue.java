@@ -1,39 +1,69 @@
 package io.nozdormu.config;
 
 import org.eclipse.microprofile.config.ConfigValue;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import java.util.Optional;
 
 public class TypesafeConfigValue implements ConfigValue {
 
+  private final String name;
+
   private final com.typesafe.config.ConfigValue configValue;
 
+  private final String sourceName;
+
+  private final int sourceOrdinal;
+
   public TypesafeConfigValue(com.typesafe.config.ConfigValue configValue) {
+    this(
+        configValue.origin().description(),
+        configValue,
+        configValue.origin().filename(),
+        ConfigSource.DEFAULT_ORDINAL);
+  }
+
+  public TypesafeConfigValue(
+      String name,
+      com.typesafe.config.ConfigValue configValue,
+      String sourceName,
+      int sourceOrdinal) {
+    this.name = name;
     this.configValue = configValue;
+    this.sourceName = sourceName;
+    this.sourceOrdinal = sourceOrdinal;
+  }
+
+  public com.typesafe.config.ConfigValue getConfigValue() {
+    return configValue;
+  }
+
+  public Optional<FileReference> getFileReference() {
+    return FileReference.parse(getValue());
   }
 
   @Override
   public String getName() {
-    String description = configValue.origin().description();
-    return description != null ? description : "";
+    return name != null ? name : "";
   }
 
   @Override
   public String getValue() {
-    return configValue.render();
+    return configValue != null ? TypesafeConfigSource.render(configValue) : null;
   }
 
   @Override
   public String getRawValue() {
-    Object raw = configValue.unwrapped();
-    return raw != null ? raw.toString() : null;
+    return getValue();
   }
 
   @Override
   public String getSourceName() {
-    return configValue.origin().filename();
+    return sourceName;
   }
 
   @Override
   public int getSourceOrdinal() {
-    return configValue.origin().lineNumber();
+    return sourceOrdinal;
   }
 }
@@ -2,6 +2,7 @@ package io.nozdormu.config;
 
 import com.typesafe.config.ConfigBeanFactory;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 import org.eclipse.microprofile.config.spi.Converter;
 
 public class TypesafeConverter<T> implements Converter<T> {
@@ -13,7 +14,13 @@ public class TypesafeConverter<T> implements Converter<T> {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public T convert(String value) throws IllegalArgumentException, NullPointerException {
+    if (ConfigSnapshot.isScalar(forType)) {
+      return (T)
+          ConfigSnapshot.convert(
+              ConfigValueFactory.fromAnyRef(value).atKey("value"), "value", forType);
+    }
     return ConfigBeanFactory.create(ConfigFactory.parseResources(value).resolve(), forType);
   }
 }
@@ -7,29 +7,76 @@ import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.expr.AssignExpr;
-import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.nodeTypes.NodeWithSimpleName;
 import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.Type;
 import com.github.javaparser.resolution.declarations.ResolvedDeclaration;
 import com.google.auto.service.AutoService;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigUtil;
 import io.nozdormu.common.ProcessorManager;
+import io.nozdormu.config.FileReference;
+import io.nozdormu.config.TypesafeConfig;
 import io.nozdormu.inject.processor.ComponentProxyProcessor;
+import io.nozdormu.spi.context.BeanContext;
+import io.nozdormu.spi.error.InjectionProcessException;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
+import javax.lang.model.element.ElementKind;
+import java.time.Duration;
+import java.util.*;
 import java.util.stream.Collectors;
 
+import static io.nozdormu.spi.error.InjectionProcessErrorType.CONFIG_PROPERTY_DEFAULT_VALUE_INVALID;
+import static io.nozdormu.spi.error.InjectionProcessErrorType.CONFIG_PROPERTY_NOT_EXIST;
+import static io.nozdormu.spi.error.InjectionProcessErrorType.CONFIG_PROPERTY_VALUE_NOT_EXIST;
+
 @AutoService(ComponentProxyProcessor.class)
 public class ConfigComponentProcessor implements ComponentProxyProcessor {
 
   private static final Logger logger = LoggerFactory.getLogger(ConfigComponentProcessor.class);
 
+  /**
+   * required properties are checked against src/main/resources, Gradle does not track resources
+   * for the compile task, so a module that keeps validation on declares them as its inputs
+   */
+  public static final String CONFIG_VALIDATION_OPTION = "configValidation";
+
+  private static final Set<String> SCALAR_TYPES =
+      Set.of(
+          String.class.getName(),
+          Boolean.class.getName(),
+          Integer.class.getName(),
+          Long.class.getName(),
+          Short.class.getName(),
+          Byte.class.getName(),
+          Double.class.getName(),
+          Float.class.getName(),
+          Character.class.getName(),
+          Duration.class.getName(),
+          FileReference.class.getName());
+
+  private static final Set<String> TRUE_VALUES = Set.of("TRUE", "1", "YES", "Y", "ON");
+
+  private static final Set<String> FALSE_VALUES = Set.of("FALSE", "0", "NO", "N", "OFF");
+
   private ProcessorManager processorManager;
 
+  private TypesafeConfig buildConfig;
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Set.of(CONFIG_VALIDATION_OPTION);
+  }
+
   @Override
   public void init(ProcessorManager processorManager) {
     this.processorManager = processorManager;
@@ -68,12 +115,28 @@ public class ConfigComponentProcessor implements ComponentProxyProcessor {
       componentProxyCompilationUnit.addImport(Inject.class);
     }
 
+    Map<MethodDeclaration, Optional<Expression>> configValueExpressions = new LinkedHashMap<>();
+    methodDeclarationList.forEach(
+        methodDeclaration ->
+            configValueExpressions.put(
+                methodDeclaration,
+                getConfigValueExpression(componentClassDeclaration, methodDeclaration)));
+
     componentProxyClassDeclaration
         .getConstructors()
         .forEach(
             constructorDeclaration ->
-                methodDeclarationList.forEach(
-                    methodDeclaration -> {
+                configValueExpressions.forEach(
+                    (methodDeclaration, configValueExpression) -> {
+                      if (configValueExpression.isPresent()) {
+                        constructorDeclaration
+                            .getBody()
+                            .addStatement(
+                                new MethodCallExpr()
+                                    .setName(methodDeclaration.getName())
+                                    .addArgument(configValueExpression.get().clone()));
+                        return;
+                      }
                       methodDeclaration
                           .getParameters()
                           .forEach(constructorDeclaration::addParameter);
@@ -96,6 +159,10 @@ public class ConfigComponentProcessor implements ComponentProxyProcessor {
   }
 
   private boolean isConfigPropertyFieldSetter(MethodDeclaration methodDeclaration) {
+    return getConfigPropertyField(methodDeclaration).isPresent();
+  }
+
+  private Optional<FieldDeclaration> getConfigPropertyField(MethodDeclaration methodDeclaration) {
     return methodDeclaration.getBody().stream()
         .flatMap(blockStmt -> blockStmt.findAll(AssignExpr.class).stream())
         .filter(assignExpr -> assignExpr.getTarget().isFieldAccessExpr())
@@ -105,6 +172,232 @@ public class ConfigComponentProcessor implements ComponentProxyProcessor {
         .filter(ResolvedDeclaration::isField)
         .flatMap(resolvedValueDeclaration -> resolvedValueDeclaration.asField().toAst().stream())
         .map(node -> (FieldDeclaration) node)
-        .anyMatch(fieldDeclaration -> fieldDeclaration.isAnnotationPresent(ConfigProperty.class));
+        .filter(fieldDeclaration -> fieldDeclaration.isAnnotationPresent(ConfigProperty.class))
+        .findFirst();
+  }
+
+  private Optional<Expression> getConfigValueExpression(
+      ClassOrInterfaceDeclaration componentClassDeclaration, MethodDeclaration methodDeclaration) {
+    if (methodDeclaration.getParameters().size() != 1) {
+      return Optional.empty();
+    }
+    Type type = methodDeclaration.getParameter(0).getType();
+    boolean optional = false;
+    if (type.isClassOrInterfaceType()
+        && processorManager.getQualifiedName(type).equals(Optional.class.getName())) {
+      Optional<Type> typeArgument =
+          type.asClassOrInterfaceType().getTypeArguments().flatMap(NodeList::getFirst);
+      if (typeArgument.isEmpty()) {
+        return Optional.empty();
+      }
+      type = typeArgument.get();
+      optional = true;
+    }
+    Optional<String> valueType = getScalarType(type);
+    if (valueType.isEmpty()) {
+      return Optional.empty();
+    }
+
+    String componentName = processorManager.getQualifiedName(componentClassDeclaration);
+    Optional<FieldDeclaration> field = getConfigPropertyField(methodDeclaration);
+    AnnotationExpr annotationExpr =
+        methodDeclaration
+            .getAnnotationByClass(ConfigProperty.class)
+            .or(() -> field.flatMap(f -> f.getAnnotationByClass(ConfigProperty.class)))
+            .orElseThrow(
+                () ->
+                    new InjectionProcessException(
+                        CONFIG_PROPERTY_NOT_EXIST.bind(methodDeclaration.getNameAsString())));
+    String propertyName =
+        getMemberValue(annotationExpr, "name")
+            .filter(name -> !name.isEmpty())
+            .orElseGet(
+                () ->
+                    componentName
+                        + "."
+                        + field
+                            .map(f -> f.getVariable(0).getNameAsString())
+                            .orElseGet(() -> getPropertyName(methodDeclaration)));
+    Optional<Expression> defaultValue =
+        getMemberValue(annotationExpr, "defaultValue")
+            .filter(value -> !value.equals(ConfigProperty.UNCONFIGURED_VALUE))
+            .map(
+                value ->
+                    getDefaultValueExpression(valueType.get(), value)
+                        .orElseThrow(
+                            () ->
+                                new InjectionProcessException(
+                                    CONFIG_PROPERTY_DEFAULT_VALUE_INVALID.bind(
+                                        value, propertyName, componentName))));
+
+    MethodCallExpr getConfig =
+        new MethodCallExpr()
+            .setName("get")
+            .addArgument(new ClassExpr().setType(Config.class.getName()))
+            .setScope(new NameExpr(BeanContext.class.getName()));
+    MethodCallExpr getOptionalValue =
+        new MethodCallExpr()
+            .setName("getOptionalValue")
+            .addArgument(new StringLiteralExpr().setString(propertyName))
+            .addArgument(new ClassExpr().setType(valueType.get()))
+            .setScope(getConfig.clone());
+
+    if (optional) {
+      return Optional.of(
+          defaultValue
+              .<Expression>map(
+                  value ->
+                      new MethodCallExpr()
+                          .setName("or")
+                          .addArgument(
+                              new LambdaExpr()
+                                  .setEnclosingParameters(true)
+                                  .setBody(
+                                      new ExpressionStmt(
+                                          new MethodCallExpr()
+                                              .setName("of")
+                                              .addArgument(value)
+                                              .setScope(
+                                                  new NameExpr(Optional.class.getName())))))
+                          .setScope(getOptionalValue))
+              .orElse(getOptionalValue));
+    } else if (defaultValue.isPresent()) {
+      return Optional.of(
+          new MethodCallExpr()
+              .setName("orElse")
+              .addArgument(defaultValue.get())
+              .setScope(getOptionalValue));
+    }
+
+    validatePropertyExist(propertyName, componentName);
+    return Optional.of(
+        new MethodCallExpr()
+            .setName("getValue")
+            .addArgument(new StringLiteralExpr().setString(propertyName))
+            .addArgument(new ClassExpr().setType(valueType.get()))
+            .setScope(getConfig));
+  }
+
+  private void validatePropertyExist(String propertyName, String componentName) {
+    if (processorManager.getOption(CONFIG_VALIDATION_OPTION).orElse("true").equals("false")) {
+      return;
+    }
+    if (buildConfig == null) {
+      buildConfig = new TypesafeConfig().loadResources(processorManager.getFiler());
+    }
+    if (buildConfig.getConfigValue(propertyName).getValue() == null) {
+      throw new InjectionProcessException(
+          CONFIG_PROPERTY_VALUE_NOT_EXIST.bind(propertyName, componentName));
+    }
+  }
+
+  private String getPropertyName(MethodDeclaration methodDeclaration) {
+    String name = methodDeclaration.getNameAsString();
+    if (name.startsWith("set") && name.length() > 3) {
+      name = name.substring(3);
+    }
+    return name.substring(0, 1).toLowerCase() + name.substring(1);
+  }
+
+  private Optional<String> getMemberValue(AnnotationExpr annotationExpr, String memberName) {
+    if (!annotationExpr.isNormalAnnotationExpr()) {
+      return Optional.empty();
+    }
+    return annotationExpr.asNormalAnnotationExpr().getPairs().stream()
+        .filter(memberValuePair -> memberValuePair.getNameAsString().equals(memberName))
+        .findFirst()
+        .map(MemberValuePair::getValue)
+        .filter(Expression::isStringLiteralExpr)
+        .map(expression -> expression.asStringLiteralExpr().asString());
+  }
+
+  private Optional<String> getScalarType(Type type) {
+    if (type.isPrimitiveType()) {
+      return Optional.of(type.asPrimitiveType().toBoxedType().getNameWithScope())
+          .map(name -> "java.lang." + name);
+    } else if (!type.isClassOrInterfaceType()) {
+      return Optional.empty();
+    }
+    String qualifiedName = processorManager.getQualifiedName(type);
+    if (SCALAR_TYPES.contains(qualifiedName)) {
+      return Optional.of(qualifiedName);
+    }
+    return processorManager
+        .getTypeElement(qualifiedName)
+        .filter(typeElement -> typeElement.getKind() == ElementKind.ENUM)
+        .map(typeElement -> qualifiedName);
+  }
+
+  private Optional<Expression> getDefaultValueExpression(String valueType, String value) {
+    try {
+      switch (valueType) {
+        case "java.lang.String":
+          return Optional.of(new StringLiteralExpr().setString(value));
+        case "java.lang.Boolean":
+          if (TRUE_VALUES.contains(value.toUpperCase())) {
+            return Optional.of(new BooleanLiteralExpr(true));
+          } else if (FALSE_VALUES.contains(value.toUpperCase())) {
+            return Optional.of(new BooleanLiteralExpr(false));
+          }
+          return Optional.empty();
+        case "java.lang.Integer":
+          return Optional.of(new IntegerLiteralExpr(String.valueOf(Integer.parseInt(value))));
+        case "java.lang.Long":
+          return Optional.of(new LongLiteralExpr(Long.parseLong(value) + "L"));
+        case "java.lang.Short":
+          return Optional.of(
+              new CastExpr(
+                  PrimitiveType.shortType(),
+                  new IntegerLiteralExpr(String.valueOf(Short.parseShort(value)))));
+        case "java.lang.Byte":
+          return Optional.of(
+              new CastExpr(
+                  PrimitiveType.byteType(),
+                  new IntegerLiteralExpr(String.valueOf(Byte.parseByte(value)))));
+        case "java.lang.Double":
+          double doubleValue = Double.parseDouble(value);
+          return Double.isFinite(doubleValue)
+              ? Optional.of(new DoubleLiteralExpr(Double.toString(doubleValue)))
+              : Optional.empty();
+        case "java.lang.Float":
+          float floatValue = Float.parseFloat(value);
+          return Float.isFinite(floatValue)
+              ? Optional.of(new DoubleLiteralExpr(floatValue + "F"))
+              : Optional.empty();
+        case "java.lang.Character":
+          return value.length() == 1
+              ? Optional.of(new CharLiteralExpr(CharLiteralExpr.escape(value)))
+              : Optional.empty();
+        case "java.time.Duration":
+          long nanos =
+              ConfigFactory.parseString("value = " + ConfigUtil.quoteString(value))
+                  .getDuration("value")
+                  .toNanos();
+          return Optional.of(
+              new MethodCallExpr()
+                  .setName("ofNanos")
+                  .addArgument(new LongLiteralExpr(nanos + "L"))
+                  .setScope(new NameExpr(Duration.class.getName())));
+        case "io.nozdormu.config.FileReference":
+          return Optional.of(
+              new MethodCallExpr()
+                  .setName("of")
+                  .addArgument(new StringLiteralExpr().setString(value))
+                  .setScope(new NameExpr(FileReference.class.getName())));
+        default:
+          return processorManager
+              .getTypeElement(valueType)
+              .filter(
+                  typeElement ->
+                      typeElement.getEnclosedElements().stream()
+                          .anyMatch(
+                              element ->
+                                  element.getKind() == ElementKind.ENUM_CONSTANT
+                                      && element.getSimpleName().contentEquals(value)))
+              .map(typeElement -> new FieldAccessExpr(new NameExpr(valueType), value));
+      }
+    } catch (NumberFormatException | ConfigException e) {
+      return Optional.empty();
+    }
   }
 }
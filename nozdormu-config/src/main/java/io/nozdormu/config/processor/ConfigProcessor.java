@@ -7,12 +7,25 @@ import com.github.javaparser.ast.PackageDeclaration;
 import com.github.javaparser.ast.body.*;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.CatchClause;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.ThrowStmt;
+import com.github.javaparser.ast.stmt.TryStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
 import com.github.javaparser.ast.type.UnknownType;
 import com.google.auto.service.AutoService;
+import com.typesafe.config.ConfigBeanFactory;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigMemorySize;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
 import io.nozdormu.common.ProcessorManager;
+import io.nozdormu.config.ConfigHolder;
+import io.nozdormu.config.FileReference;
 import io.nozdormu.spi.context.BeanContext;
 import io.nozdormu.spi.context.BeanSupplier;
 import io.nozdormu.spi.context.BeanSuppliers;
@@ -27,11 +40,26 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static io.nozdormu.spi.error.InjectionProcessErrorType.CONFIG_PROPERTIES_PREFIX_NOT_EXIST;
+import static io.nozdormu.spi.error.InjectionProcessErrorType.CONFIG_PROPERTY_TYPE_NOT_SUPPORTED;
 
 @SupportedAnnotationTypes({"org.eclipse.microprofile.config.inject.ConfigProperties"})
 @AutoService(Processor.class)
@@ -39,6 +67,48 @@ public class ConfigProcessor extends AbstractProcessor {
 
   private static final Logger logger = LoggerFactory.getLogger(ConfigProcessor.class);
 
+  private static final String TYPESAFE_CONFIG = com.typesafe.config.Config.class.getName();
+
+  private static final Map<String, String> SCALAR_GETTERS =
+      Map.ofEntries(
+          Map.entry(String.class.getName(), "getString"),
+          Map.entry(Boolean.class.getName(), "getBoolean"),
+          Map.entry(Integer.class.getName(), "getInt"),
+          Map.entry(Long.class.getName(), "getLong"),
+          Map.entry(Double.class.getName(), "getDouble"),
+          Map.entry(Float.class.getName(), "getDouble"),
+          Map.entry(Short.class.getName(), "getInt"),
+          Map.entry(Byte.class.getName(), "getInt"),
+          Map.entry(Number.class.getName(), "getNumber"),
+          Map.entry(Object.class.getName(), "getAnyRef"),
+          Map.entry(Duration.class.getName(), "getDuration"),
+          Map.entry(ConfigMemorySize.class.getName(), "getMemorySize"),
+          Map.entry(TYPESAFE_CONFIG, "getConfig"),
+          Map.entry(ConfigObject.class.getName(), "getObject"),
+          Map.entry(ConfigList.class.getName(), "getList"),
+          Map.entry(ConfigValue.class.getName(), "getValue"));
+
+  private static final Map<String, String> LIST_GETTERS =
+      Map.of(
+          String.class.getName(), "getStringList",
+          Boolean.class.getName(), "getBooleanList",
+          Integer.class.getName(), "getIntList",
+          Long.class.getName(), "getLongList",
+          Double.class.getName(), "getDoubleList",
+          Number.class.getName(), "getNumberList",
+          Duration.class.getName(), "getDurationList",
+          ConfigMemorySize.class.getName(), "getMemorySizeList",
+          TYPESAFE_CONFIG, "getConfigList",
+          ConfigObject.class.getName(), "getObjectList");
+
+  // element types without a list getter of their own, read through a wider one and converted
+  private static final Map<String, String> CONVERTED_LIST_GETTERS =
+      Map.of(
+          Float.class.getName(), "getDoubleList",
+          Short.class.getName(), "getIntList",
+          Byte.class.getName(), "getIntList",
+          Character.class.getName(), "getStringList");
+
   private ProcessorManager processorManager;
 
   @Override
@@ -55,9 +125,23 @@ public class ConfigProcessor extends AbstractProcessor {
 
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      processorManager.release();
+      return false;
+    }
     if (annotations.isEmpty()) {
       return false;
     }
+    try {
+      return processRound(roundEnv);
+    } catch (RuntimeException | Error e) {
+      // an aborted compilation never reaches processingOver
+      processorManager.release();
+      throw e;
+    }
+  }
+
+  private boolean processRound(RoundEnvironment roundEnv) {
     Set<? extends Element> ConfigPropertiesSet =
         roundEnv.getElementsAnnotatedWith(ConfigProperties.class);
 
@@ -133,6 +217,7 @@ public class ConfigProcessor extends AbstractProcessor {
             .addImport(BeanSupplier.class)
             .addImport(GeneratedBeanSupplier.class)
             .addImport(Config.class)
+            .addImport(ConfigHolder.class)
             .addImport(Map.class)
             .addImport(HashMap.class);
 
@@ -173,14 +258,26 @@ public class ConfigProcessor extends AbstractProcessor {
             .setName(configPrefix + "_Holder")
             .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC);
 
+    suppliersClassDeclaration.addMember(buildLoadMethod(qualifiedName, propertyName));
+    suppliersClassDeclaration.addMember(buildBindMethod(typeElement, qualifiedName));
+
     holderClassOrInterfaceDeclaration
         .addFieldWithInitializer(
-            qualifiedName, "INSTANCE", getConfigMethodCall(qualifiedName, propertyName))
+            new ClassOrInterfaceType()
+                .setName(ConfigHolder.class.getSimpleName())
+                .setTypeArguments(new ClassOrInterfaceType().setName(qualifiedName)),
+            "INSTANCE",
+            getConfigMethodCall(suppliersClassDeclaration, propertyName))
         .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
     suppliersClassDeclaration.addMember(holderClassOrInterfaceDeclaration);
 
     Expression getInstanceExpression =
-        new FieldAccessExpr().setName("INSTANCE").setScope(new NameExpr(configPrefix + "_Holder"));
+        new MethodCallExpr()
+            .setName("get")
+            .setScope(
+                new FieldAccessExpr()
+                    .setName("INSTANCE")
+                    .setScope(new NameExpr(configPrefix + "_Holder")));
 
     staticInitializer.addStatement(
         new VariableDeclarationExpr()
@@ -243,22 +340,441 @@ public class ConfigProcessor extends AbstractProcessor {
     return suppliersCompilationUnit;
   }
 
-  private MethodCallExpr getConfigMethodCall(String qualifiedName, StringLiteralExpr propertyName) {
-    return new MethodCallExpr()
-        .setName("orElseGet")
+  private ObjectCreationExpr getConfigMethodCall(
+      ClassOrInterfaceDeclaration suppliersClassDeclaration, StringLiteralExpr propertyName) {
+    return new ObjectCreationExpr()
+        .setType(
+            new ClassOrInterfaceType()
+                .setName(ConfigHolder.class.getSimpleName())
+                .setTypeArguments())
         .addArgument(
-            new LambdaExpr()
-                .setEnclosingParameters(true)
-                .setBody(new ExpressionStmt(new ObjectCreationExpr().setType(qualifiedName))))
-        .setScope(
             new MethodCallExpr()
-                .setName("getOptionalValue")
-                .addArgument(propertyName)
-                .addArgument(new ClassExpr().setType(qualifiedName))
-                .setScope(
+                .setName("get")
+                .addArgument(new ClassExpr().setType(Config.class))
+                .setScope(new NameExpr().setName("BeanContext")))
+        .addArgument(propertyName)
+        .addArgument(
+            new MethodReferenceExpr()
+                .setIdentifier("load")
+                .setScope(new TypeExpr().setType(suppliersClassDeclaration.getNameAsString())));
+  }
+
+  private MethodDeclaration buildLoadMethod(String qualifiedName, StringLiteralExpr propertyName) {
+    MethodDeclaration load =
+        new MethodDeclaration()
+            .setName("load")
+            .setModifiers(Modifier.Keyword.PUBLIC, Modifier.Keyword.STATIC)
+            .setType(qualifiedName)
+            .addParameter(TYPESAFE_CONFIG, "config");
+    load.createBody()
+        .addStatement(
+            new IfStmt()
+                .setCondition(
                     new MethodCallExpr()
-                        .setName("get")
-                        .addArgument(new ClassExpr().setType(Config.class))
-                        .setScope(new NameExpr().setName("BeanContext"))));
+                        .setName("hasPath")
+                        .addArgument(propertyName)
+                        .setScope(new NameExpr("config")))
+                .setThenStmt(
+                    new ReturnStmt(
+                        new MethodCallExpr()
+                            .setName("bind")
+                            .addArgument(
+                                new MethodCallExpr()
+                                    .setName("getConfig")
+                                    .addArgument(propertyName)
+                                    .setScope(new NameExpr("config"))))))
+        .addStatement(new ReturnStmt(new ObjectCreationExpr().setType(qualifiedName)));
+    return load;
+  }
+
+  private MethodDeclaration buildBindMethod(TypeElement typeElement, String qualifiedName) {
+    MethodDeclaration bind =
+        new MethodDeclaration()
+            .setName("bind")
+            .setModifiers(Modifier.Keyword.PUBLIC, Modifier.Keyword.STATIC)
+            .setType(qualifiedName)
+            .addParameter(TYPESAFE_CONFIG, "config");
+    BlockStmt body = bind.createBody();
+    body.addStatement(
+        new VariableDeclarationExpr()
+            .addVariable(
+                new VariableDeclarator()
+                    .setName("bean")
+                    .setType(qualifiedName)
+                    .setInitializer(new ObjectCreationExpr().setType(qualifiedName))));
+
+    List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(typeElement);
+    ElementFilter.fieldsIn(members).stream()
+        .filter(field -> !field.getModifiers().contains(javax.lang.model.element.Modifier.STATIC))
+        .filter(
+            field -> !field.getModifiers().contains(javax.lang.model.element.Modifier.TRANSIENT))
+        .forEach(field -> bindField(typeElement, field, members, body));
+
+    body.addStatement(new ReturnStmt(new NameExpr("bean")));
+    return bind;
+  }
+
+  private void bindField(
+      TypeElement typeElement,
+      VariableElement field,
+      List<? extends Element> members,
+      BlockStmt body) {
+    Types types = processingEnv.getTypeUtils();
+    DeclaredType beanType = (DeclaredType) typeElement.asType();
+    TypeMirror fieldType = types.asMemberOf(beanType, field);
+    String fieldName = field.getSimpleName().toString();
+    String setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    Optional<ExecutableElement> setter =
+        ElementFilter.methodsIn(members).stream()
+            .filter(method -> method.getSimpleName().contentEquals(setterName))
+            .filter(method -> method.getParameters().size() == 1)
+            .filter(
+                method ->
+                    types.isSameType(
+                        ((ExecutableType) types.asMemberOf(beanType, method))
+                            .getParameterTypes()
+                            .get(0),
+                        fieldType))
+            .filter(method -> isAccessible(method, typeElement))
+            .findFirst();
+    if (setter.isEmpty()
+        && field.getModifiers().contains(javax.lang.model.element.Modifier.PRIVATE)) {
+      logger.info("{} has no setter, skipped", fieldName);
+      return;
+    }
+
+    String hyphenName = fieldName.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+    Expression path =
+        hyphenName.equals(fieldName)
+            ? new StringLiteralExpr(fieldName)
+            : new NameExpr(fieldName + "_path");
+    Optional<Expression> value = getValueExpression(fieldType, path);
+    if (value.isEmpty()) {
+      processorManager.printMessage(
+          Diagnostic.Kind.ERROR,
+          CONFIG_PROPERTY_TYPE_NOT_SUPPORTED
+              .bind(fieldType, fieldName, typeElement.getQualifiedName())
+              .toString(),
+          field);
+      return;
+    }
+
+    if (!hyphenName.equals(fieldName)) {
+      body.addStatement(
+          new VariableDeclarationExpr()
+              .addVariable(
+                  new VariableDeclarator()
+                      .setName(fieldName + "_path")
+                      .setType(String.class)
+                      .setInitializer(
+                          new ConditionalExpr()
+                              .setCondition(
+                                  new MethodCallExpr()
+                                      .setName("hasPath")
+                                      .addArgument(new StringLiteralExpr(hyphenName))
+                                      .setScope(new NameExpr("config")))
+                              .setThenExpr(new StringLiteralExpr(hyphenName))
+                              .setElseExpr(new StringLiteralExpr(fieldName)))));
+    }
+
+    Statement assign;
+    if (setter.isPresent()) {
+      assign =
+          new ExpressionStmt(
+              new MethodCallExpr()
+                  .setName(setterName)
+                  .addArgument(value.get())
+                  .setScope(new NameExpr("bean")));
+    } else if (isAccessible(field, typeElement)) {
+      assign =
+          new ExpressionStmt(
+              new AssignExpr()
+                  .setTarget(
+                      new FieldAccessExpr().setName(fieldName).setScope(new NameExpr("bean")))
+                  .setValue(value.get()));
+    } else {
+      assign = getReflectiveAssign(typeElement, field, value.get());
+    }
+
+    boolean optional =
+        field.getAnnotation(com.typesafe.config.Optional.class) != null
+            || setter
+                .map(method -> method.getAnnotation(com.typesafe.config.Optional.class) != null)
+                .orElse(false);
+    if (optional) {
+      body.addStatement(
+          new IfStmt()
+              .setCondition(
+                  new MethodCallExpr()
+                      .setName("hasPath")
+                      .addArgument(path)
+                      .setScope(new NameExpr("config")))
+              .setThenStmt(new BlockStmt().addStatement(assign)));
+    } else {
+      body.addStatement(assign);
+    }
+  }
+
+  /** the generated class is in the package of the config class */
+  private boolean isAccessible(Element member, TypeElement typeElement) {
+    Set<javax.lang.model.element.Modifier> modifiers = member.getModifiers();
+    if (modifiers.contains(javax.lang.model.element.Modifier.PUBLIC)) {
+      return true;
+    }
+    Elements elements = processingEnv.getElementUtils();
+    return !modifiers.contains(javax.lang.model.element.Modifier.PRIVATE)
+        && elements.getPackageOf(member).equals(elements.getPackageOf(typeElement));
+  }
+
+  /** a protected or package private field inherited from another package without a setter */
+  private Statement getReflectiveAssign(
+      TypeElement typeElement, VariableElement field, Expression value) {
+    String fieldName = field.getSimpleName().toString();
+    TypeElement declaringElement = (TypeElement) field.getEnclosingElement();
+    Expression declaringClass =
+        new MethodCallExpr()
+            .setName("forName")
+            .addArgument(
+                new StringLiteralExpr(
+                    processingEnv.getElementUtils().getBinaryName(declaringElement).toString()))
+            .addArgument(new BooleanLiteralExpr(false))
+            .addArgument(
+                new MethodCallExpr()
+                    .setName("getClassLoader")
+                    .setScope(
+                        new ClassExpr().setType(typeElement.getQualifiedName().toString())))
+            .setScope(new NameExpr(Class.class.getSimpleName()));
+    BlockStmt tryBlock =
+        new BlockStmt()
+            .addStatement(
+                new VariableDeclarationExpr()
+                    .addVariable(
+                        new VariableDeclarator()
+                            .setName(fieldName + "_field")
+                            .setType(Field.class.getName())
+                            .setInitializer(
+                                new MethodCallExpr()
+                                    .setName("getDeclaredField")
+                                    .addArgument(new StringLiteralExpr(fieldName))
+                                    .setScope(declaringClass))))
+            .addStatement(
+                new MethodCallExpr()
+                    .setName("setAccessible")
+                    .addArgument(new BooleanLiteralExpr(true))
+                    .setScope(new NameExpr(fieldName + "_field")))
+            .addStatement(
+                new MethodCallExpr()
+                    .setName("set")
+                    .addArgument(new NameExpr("bean"))
+                    .addArgument(value)
+                    .setScope(new NameExpr(fieldName + "_field")));
+    return new TryStmt()
+        .setTryBlock(tryBlock)
+        .setCatchClauses(
+            new NodeList<>(
+                new CatchClause()
+                    .setParameter(
+                        new Parameter()
+                            .setName("e")
+                            .setType(ReflectiveOperationException.class))
+                    .setBody(
+                        new BlockStmt()
+                            .addStatement(
+                                new ThrowStmt(
+                                    new ObjectCreationExpr()
+                                        .setType(IllegalStateException.class)
+                                        .addArgument(new NameExpr("e")))))));
+  }
+
+  private Optional<Expression> getValueExpression(TypeMirror type, Expression path) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return Optional.of(getConfigValue("getBoolean", path));
+      case INT:
+        return Optional.of(getConfigValue("getInt", path));
+      case LONG:
+        return Optional.of(getConfigValue("getLong", path));
+      case DOUBLE:
+        return Optional.of(getConfigValue("getDouble", path));
+      case FLOAT:
+        return Optional.of(
+            new CastExpr(PrimitiveType.floatType(), getConfigValue("getDouble", path)));
+      case SHORT:
+        return Optional.of(new CastExpr(PrimitiveType.shortType(), getConfigValue("getInt", path)));
+      case BYTE:
+        return Optional.of(new CastExpr(PrimitiveType.byteType(), getConfigValue("getInt", path)));
+      case DECLARED:
+        break;
+      default:
+        return Optional.empty();
+    }
+
+    DeclaredType declaredType = (DeclaredType) type;
+    TypeElement element = (TypeElement) declaredType.asElement();
+    String name = element.getQualifiedName().toString();
+    Optional<String> getter = Optional.ofNullable(SCALAR_GETTERS.get(name));
+    if (getter.isPresent()) {
+      Expression value = getConfigValue(getter.get(), path);
+      if (name.equals(Float.class.getName())) {
+        return Optional.of(new CastExpr(PrimitiveType.floatType(), value));
+      } else if (name.equals(Short.class.getName())) {
+        return Optional.of(new CastExpr(PrimitiveType.shortType(), value));
+      } else if (name.equals(Byte.class.getName())) {
+        return Optional.of(new CastExpr(PrimitiveType.byteType(), value));
+      } else if (name.equals(String.class.getName())) {
+        // same as Config.getValue(name, String.class), a "${file:/path}" value is the file content
+        return Optional.of(
+            new MethodCallExpr()
+                .setName("resolve")
+                .addArgument(value)
+                .setScope(new NameExpr(FileReference.class.getName())));
+      }
+      return Optional.of(value);
+    } else if (name.equals(FileReference.class.getName())) {
+      return Optional.of(
+          new MethodCallExpr()
+              .setName("of")
+              .addArgument(getConfigValue("getString", path))
+              .setScope(new NameExpr(FileReference.class.getName())));
+    } else if (name.equals(List.class.getName()) || name.equals(Set.class.getName())) {
+      if (declaredType.getTypeArguments().size() != 1
+          || declaredType.getTypeArguments().get(0).getKind() != TypeKind.DECLARED) {
+        return Optional.empty();
+      }
+      return getListExpression((DeclaredType) declaredType.getTypeArguments().get(0), path)
+          .map(
+              list ->
+                  name.equals(Set.class.getName())
+                      ? new ObjectCreationExpr()
+                          .setType(
+                              new ClassOrInterfaceType()
+                                  .setName(LinkedHashSet.class.getName())
+                                  .setTypeArguments())
+                          .addArgument(list)
+                      : list);
+    } else if (element.getKind() == ElementKind.ENUM) {
+      return Optional.of(getEnumValue("getEnum", name, path));
+    } else if (isConfigProperties(element)) {
+      return Optional.of(
+          new MethodCallExpr()
+              .setName("bind")
+              .addArgument(getConfigValue("getConfig", path))
+              .setScope(new NameExpr(getBeanSuppliersName(element))));
+    } else if (declaredType.getTypeArguments().isEmpty()) {
+      return Optional.of(
+          new MethodCallExpr()
+              .setName("create")
+              .addArgument(getConfigValue("getConfig", path))
+              .addArgument(new ClassExpr().setType(name))
+              .setScope(new NameExpr(ConfigBeanFactory.class.getName())));
+    }
+    return Optional.empty();
+  }
+
+  private Optional<Expression> getListExpression(DeclaredType elementType, Expression path) {
+    TypeElement element = (TypeElement) elementType.asElement();
+    String name = element.getQualifiedName().toString();
+    Optional<String> getter = Optional.ofNullable(LIST_GETTERS.get(name));
+    Optional<String> convertedGetter = Optional.ofNullable(CONVERTED_LIST_GETTERS.get(name));
+    if (getter.isPresent()) {
+      return Optional.of(getConfigValue(getter.get(), path));
+    } else if (convertedGetter.isPresent()) {
+      return Optional.of(
+          new MethodCallExpr()
+              .setName("collect")
+              .addArgument(
+                  new MethodCallExpr()
+                      .setName("toList")
+                      .setScope(new NameExpr(Collectors.class.getName())))
+              .setScope(
+                  new MethodCallExpr()
+                      .setName("map")
+                      .addArgument(getListElementConverter(name))
+                      .setScope(
+                          new MethodCallExpr()
+                              .setName("stream")
+                              .setScope(getConfigValue(convertedGetter.get(), path)))));
+    } else if (element.getKind() == ElementKind.ENUM) {
+      return Optional.of(getEnumValue("getEnumList", name, path));
+    } else if (elementType.getTypeArguments().isEmpty()) {
+      Expression mapper =
+          isConfigProperties(element)
+              ? new MethodReferenceExpr()
+                  .setIdentifier("bind")
+                  .setScope(new TypeExpr().setType(getBeanSuppliersName(element)))
+              : new LambdaExpr()
+                  .addParameter(new Parameter().setName("item").setType(new UnknownType()))
+                  .setBody(
+                      new ExpressionStmt(
+                          new MethodCallExpr()
+                              .setName("create")
+                              .addArgument(new NameExpr("item"))
+                              .addArgument(new ClassExpr().setType(name))
+                              .setScope(new NameExpr(ConfigBeanFactory.class.getName()))));
+      return Optional.of(
+          new MethodCallExpr()
+              .setName("collect")
+              .addArgument(
+                  new MethodCallExpr()
+                      .setName("toList")
+                      .setScope(new NameExpr(Collectors.class.getName())))
+              .setScope(
+                  new MethodCallExpr()
+                      .setName("map")
+                      .addArgument(mapper)
+                      .setScope(
+                          new MethodCallExpr()
+                              .setName("stream")
+                              .setScope(getConfigValue("getConfigList", path)))));
+    }
+    return Optional.empty();
+  }
+
+  private Expression getListElementConverter(String name) {
+    if (name.equals(Character.class.getName())) {
+      return new LambdaExpr()
+          .addParameter(new Parameter().setName("item").setType(new UnknownType()))
+          .setBody(
+              new ExpressionStmt(
+                  new MethodCallExpr()
+                      .setName("charAt")
+                      .addArgument(new IntegerLiteralExpr("0"))
+                      .setScope(new NameExpr("item"))));
+    }
+    return new MethodReferenceExpr()
+        .setIdentifier(
+            name.equals(Float.class.getName())
+                ? "floatValue"
+                : name.equals(Short.class.getName()) ? "shortValue" : "byteValue")
+        .setScope(
+            new TypeExpr()
+                .setType(
+                    name.equals(Float.class.getName())
+                        ? Double.class.getName()
+                        : Integer.class.getName()));
+  }
+
+  private MethodCallExpr getConfigValue(String getter, Expression path) {
+    return new MethodCallExpr()
+        .setName(getter)
+        .addArgument(path.clone())
+        .setScope(new NameExpr("config"));
+  }
+
+  private MethodCallExpr getEnumValue(String getter, String enumName, Expression path) {
+    return new MethodCallExpr()
+        .setName(getter)
+        .addArgument(new ClassExpr().setType(enumName))
+        .addArgument(path.clone())
+        .setScope(new NameExpr("config"));
+  }
+
+  private boolean isConfigProperties(TypeElement element) {
+    return element.getAnnotation(ConfigProperties.class) != null
+        && element.getNestingKind() == NestingKind.TOP_LEVEL;
+  }
+
+  private String getBeanSuppliersName(TypeElement element) {
+    return element.getQualifiedName().toString() + "_BeanSuppliers";
   }
 }
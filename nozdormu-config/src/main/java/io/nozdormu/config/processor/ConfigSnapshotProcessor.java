@@ -0,0 +1,102 @@
+package io.nozdormu.config.processor;
+
+import com.google.auto.service.AutoService;
+import com.typesafe.config.ConfigResolveOptions;
+import com.typesafe.config.ConfigResolver;
+import com.typesafe.config.ConfigValue;
+import io.nozdormu.config.ConfigSnapshotCodec;
+import io.nozdormu.config.TypesafeConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.TreeSet;
+
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ConfigSnapshotProcessor.CONFIG_SNAPSHOT_OPTION)
+@AutoService(Processor.class)
+public class ConfigSnapshotProcessor extends AbstractProcessor {
+
+  public static final String CONFIG_SNAPSHOT_OPTION = "configSnapshot";
+
+  private static final Logger logger = LoggerFactory.getLogger(ConfigSnapshotProcessor.class);
+
+  private boolean written;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (written
+        || roundEnv.processingOver()
+        || !"true".equals(processingEnv.getOptions().get(CONFIG_SNAPSHOT_OPTION))) {
+      return false;
+    }
+    written = true;
+    // substitutions are resolved within the project config only, anything that falls through to
+    // the environment, system properties or a library reference.conf must be resolved at runtime
+    Set<String> runtimePaths = new TreeSet<>();
+    com.typesafe.config.Config config =
+        TypesafeConfig.parseResources(processingEnv.getFiler())
+            .resolve(
+                ConfigResolveOptions.noSystem()
+                    .setAllowUnresolved(true)
+                    .appendResolver(new RecordingResolver(runtimePaths)));
+    if (!runtimePaths.isEmpty() || !config.isResolved()) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.NOTE,
+              "config snapshot skipped, substitutions resolved at runtime: " + runtimePaths);
+      return false;
+    }
+    try {
+      FileObject resource =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", ConfigSnapshotCodec.RESOURCE_NAME);
+      try (OutputStream outputStream = resource.openOutputStream()) {
+        ConfigSnapshotCodec.write(config, outputStream);
+      }
+      logger.info("config snapshot written: {} entries", config.entrySet().size());
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR, "unable to write config snapshot: " + e.getMessage());
+    }
+    return false;
+  }
+
+  private static final class RecordingResolver implements ConfigResolver {
+
+    private final Set<String> paths;
+
+    private RecordingResolver(Set<String> paths) {
+      this.paths = paths;
+    }
+
+    @Override
+    public ConfigValue lookup(String path) {
+      paths.add(path);
+      return null;
+    }
+
+    @Override
+    public ConfigResolver withFallback(ConfigResolver fallback) {
+      return this;
+    }
+  }
+}
@@ -1,15 +1,102 @@
 package io.nozdormu.config.test;
 
+import com.typesafe.config.ConfigFactory;
+import io.nozdormu.config.ConfigHolder;
+import io.nozdormu.config.ConfigSnapshotCodec;
+import io.nozdormu.config.FileReference;
+import io.nozdormu.config.TypesafeConfig;
+import io.nozdormu.config.TypesafeConfigSource;
+import io.nozdormu.config.TypesafeConfigValue;
+import io.nozdormu.config.processor.ConfigProcessor;
+import io.nozdormu.config.processor.ConfigSnapshotProcessor;
 import io.nozdormu.config.test.config.DBConfig;
+import io.nozdormu.config.test.config.DBConfig_BeanSuppliers;
+import io.nozdormu.config.test.config.PoolConfig;
+import io.nozdormu.config.test.config.PoolConfig_BeanSuppliers;
 import io.nozdormu.config.test.config.QueryDAO;
+import io.nozdormu.inject.processor.InjectProcessor;
 import io.nozdormu.spi.context.BeanContext;
+import io.nozdormu.spi.error.InjectionProcessException;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.ConfigValue;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ConfigTest {
 
+  private static final String POOL_LABELS =
+      String.join(
+          System.lineSeparator(),
+          "package io.nozdormu.config.check;",
+          "",
+          "import java.util.Map;",
+          "import org.eclipse.microprofile.config.inject.ConfigProperties;",
+          "",
+          "@ConfigProperties(prefix = \"pool\")",
+          "public class PoolDAO {",
+          "",
+          "  private Map<String, String> labels;",
+          "",
+          "  public void setLabels(Map<String, String> labels) {",
+          "    this.labels = labels;",
+          "  }",
+          "}");
+
+  private static final String POOL_DAO =
+      String.join(
+          System.lineSeparator(),
+          "package io.nozdormu.config.check;",
+          "",
+          "import jakarta.enterprise.context.ApplicationScoped;",
+          "import org.eclipse.microprofile.config.inject.ConfigProperty;",
+          "",
+          "@ApplicationScoped",
+          "public class PoolDAO {",
+          "",
+          "  @ConfigProperty(name = \"pool.size\"%s)",
+          "  private int size;",
+          "",
+          "  public void setSize(int size) {",
+          "    this.size = size;",
+          "  }",
+          "}");
+
   @Test
   void testDBConfig() {
     QueryDAO queryDAO = BeanContext.get(QueryDAO.class);
@@ -19,5 +106,345 @@ public class ConfigTest {
     assertEquals(dbConfig.getUser(), "root");
     assertEquals(dbConfig.getPassword(), "pass");
     assertNull(dbConfig.getDb());
+    assertEquals(dbConfig.getMaxPoolSize(), 20);
+    assertEquals(dbConfig.getTimeout(), Duration.ofSeconds(5));
+    assertEquals(dbConfig.getOptions(), List.of("ssl", "compress"));
+    assertEquals(dbConfig.getWeights(), List.of(0.5f, 1.5f));
+    assertEquals(dbConfig.getShards(), List.of((short) 1, (short) 2));
+    assertEquals(dbConfig.getFlags(), List.of((byte) 0, (byte) 127));
+    assertEquals(dbConfig.getSeparators(), List.of(',', ';'));
+    assertEquals(queryDAO.getMaxPoolSize(), 20);
+    assertEquals(queryDAO.getIdleTimeout(), Duration.ofSeconds(30));
+    assertFalse(queryDAO.isSsl());
+    assertTrue(queryDAO.getSchema().isEmpty());
+  }
+
+  @Test
+  void testScalarValue() {
+    Config config = BeanContext.get(Config.class);
+    assertEquals(config.getValue("db.max-pool-size", Integer.class), 20);
+    assertEquals(config.getValue("db.max-pool-size", int.class), 20);
+    assertEquals(config.getValue("db.timeout", Duration.class), Duration.ofSeconds(5));
+    assertEquals(config.getValue("db.timeout-unit", TimeUnit.class), TimeUnit.SECONDS);
+    assertEquals(config.getValues("db.options", String.class), List.of("ssl", "compress"));
+    // Duration.ofSeconds allocates on every conversion, so only the snapshot cache returns the same
+    assertSame(
+        config.getValue("db.timeout", Duration.class),
+        config.getValue("db.timeout", Duration.class));
+    assertTrue(config.getOptionalValue("db.missing", String.class).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> config.getValue("db.user", Integer.class));
+  }
+
+  @Test
+  void testConfigSources(@TempDir Path dir) throws IOException {
+    Files.writeString(dir.resolve("db.conf"), "config_ordinal = 200, db { user = admin }");
+    System.setProperty("db.password", "system");
+    ConfigFactory.invalidateCaches();
+    try {
+      TypesafeConfig config = new TypesafeConfig().merge(dir.toString());
+      ConfigValue password = config.getConfigValue("db.password");
+      assertEquals(password.getValue(), "system");
+      assertEquals(password.getSourceOrdinal(), 400);
+      ConfigValue user = config.getConfigValue("db.user");
+      assertEquals(user.getValue(), "admin");
+      assertEquals(user.getSourceOrdinal(), 200);
+      assertEquals(config.getConfigValue("db.max-pool-size").getSourceOrdinal(), 100);
+      assertNull(config.getConfigValue("db.missing").getValue());
+      assertEquals(config.getValue("db.password", String.class), "system");
+      assertEquals(config.getValue("db.user", String.class), "admin");
+
+      List<Integer> ordinals =
+          StreamSupport.stream(config.getConfigSources().spliterator(), false)
+              .map(ConfigSource::getOrdinal)
+              .collect(Collectors.toList());
+      assertEquals(ordinals, List.of(400, 300, 200, 100));
+      assertTrue(
+          StreamSupport.stream(config.getPropertyNames().spliterator(), false)
+              .anyMatch("db.max-pool-size"::equals));
+    } finally {
+      System.clearProperty("db.password");
+      ConfigFactory.invalidateCaches();
+    }
+  }
+
+  @Test
+  void testEnvironmentFallback() {
+    TypesafeConfig config =
+        new TypesafeConfig(
+            List.of(
+                new TypesafeConfigSource(
+                    TypesafeConfigSource.ENVIRONMENT_NAME,
+                    ConfigFactory.parseMap(Map.of("APP_MODE", "blue")),
+                    TypesafeConfigSource.ENVIRONMENT_ORDINAL),
+                new TypesafeConfigSource(
+                    "test", ConfigFactory.parseString("app { name = demo }"), 100)),
+            Map.of());
+    assertEquals(config.getValue("app.mode", String.class), "blue");
+    assertEquals(config.getOptionalValue("app.mode", String.class), Optional.of("blue"));
+    ConfigValue mode = config.getConfigValue("app.mode");
+    assertEquals(mode.getValue(), "blue");
+    assertEquals(mode.getSourceName(), TypesafeConfigSource.ENVIRONMENT_NAME);
+    assertEquals(config.getValue("app.name", String.class), "demo");
+    assertTrue(config.getOptionalValue("app.missing", String.class).isEmpty());
+  }
+
+  @Test
+  void testConfigSnapshot() throws IOException {
+    assertNotNull(getClass().getClassLoader().getResource(ConfigSnapshotCodec.RESOURCE_NAME));
+    com.typesafe.config.Config config =
+        ConfigFactory.parseString(
+            "a { b = 1, c = [x, y], d = 2.5, e = true, f = 10000000000, g = [{h = i}],"
+                + " j = null, \"k.l\" = 3, m = {} }");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ConfigSnapshotCodec.write(config, outputStream);
+    com.typesafe.config.Config read =
+        ConfigSnapshotCodec.read(new ByteArrayInputStream(outputStream.toByteArray()), "test");
+    assertEquals(read.root(), config.root());
+    assertTrue(read.hasPathOrNull("a.j"));
+    assertTrue(read.getIsNull("a.j"));
+  }
+
+  @Test
+  void testConfigSnapshotResources(@TempDir Path dir) throws IOException {
+    Path first = writeSnapshot(dir.resolve("first"), "pool { size = 10, name = first }");
+    Path second = writeSnapshot(dir.resolve("second"), "pool { size = 20, max = 30 }, db.user = a");
+    try (URLClassLoader classLoader =
+        new URLClassLoader(new URL[] {first.toUri().toURL(), second.toUri().toURL()}, null)) {
+      com.typesafe.config.Config config = ConfigSnapshotCodec.read(classLoader).orElseThrow();
+      assertEquals(config.getInt("pool.size"), 10);
+      assertEquals(config.getString("pool.name"), "first");
+      assertEquals(config.getInt("pool.max"), 30);
+      assertEquals(config.getString("db.user"), "a");
+    }
+  }
+
+  private Path writeSnapshot(Path root, String config) throws IOException {
+    Path snapshot = root.resolve(ConfigSnapshotCodec.RESOURCE_NAME);
+    Files.createDirectories(snapshot.getParent());
+    try (OutputStream outputStream = Files.newOutputStream(snapshot)) {
+      ConfigSnapshotCodec.write(ConfigFactory.parseString(config), outputStream);
+    }
+    return root;
+  }
+
+  @Test
+  void testConfigSnapshotSubstitution(@TempDir Path dir) throws IOException {
+    Files.createDirectories(dir.resolve("src/main/resources"));
+    Path conf = dir.resolve("src/main/resources/application.conf");
+    Files.writeString(conf, "pool { size = 10, max = ${pool.size} }");
+    String source = String.format(POOL_DAO, "");
+    Path classPath =
+        compilePoolDAO(
+            dir, source, new ConfigSnapshotProcessor(), null, "-AconfigSnapshot=true");
+    Path snapshot = classPath.resolve(ConfigSnapshotCodec.RESOURCE_NAME);
+    try (InputStream inputStream = Files.newInputStream(snapshot)) {
+      assertEquals(ConfigSnapshotCodec.read(inputStream, "test").getInt("pool.max"), 10);
+    }
+
+    Files.delete(snapshot);
+    Files.writeString(conf, "pool { size = 10, size = ${?POOL_SIZE}, home = ${user.home} }");
+    compilePoolDAO(dir, source, new ConfigSnapshotProcessor(), null, "-AconfigSnapshot=true");
+    assertFalse(Files.exists(snapshot));
+  }
+
+  @Test
+  void testConfigProvider() {
+    assertSame(ConfigProvider.getConfig(), ConfigProvider.getConfig());
+
+    Map<String, String> properties = Map.of("app.name", "demo", "app.url", "http://localhost");
+    Config config =
+        ConfigProviderResolver.instance()
+            .getBuilder()
+            .withSources(
+                new ConfigSource() {
+                  @Override
+                  public Set<String> getPropertyNames() {
+                    return properties.keySet();
+                  }
+
+                  @Override
+                  public String getValue(String propertyName) {
+                    return properties.get(propertyName);
+                  }
+
+                  @Override
+                  public String getName() {
+                    return "test";
+                  }
+                })
+            .withConverter(URI.class, 100, URI::create)
+            .build();
+    assertEquals(config.getValue("app.name", String.class), "demo");
+    assertEquals(config.getValue("app.url", URI.class), URI.create("http://localhost"));
+    assertSame(config.getConverter(URI.class).orElseThrow(), config.getConverter(URI.class).get());
+    assertTrue(config.getOptionalValue("db.user", String.class).isEmpty());
+  }
+
+  @Test
+  void testFileReference(@TempDir Path dir) throws IOException {
+    Path bundle = dir.resolve("bundle.pem");
+    Files.writeString(bundle, "-----BEGIN CERTIFICATE-----");
+    Files.writeString(
+        dir.resolve("tls.conf"), "tls { bundle = \"${file:" + bundle.toAbsolutePath() + "}\" }");
+    TypesafeConfig config = new TypesafeConfig().load(dir.toString());
+
+    FileReference fileReference = config.getValue("tls.bundle", FileReference.class);
+    assertEquals(fileReference.getPath(), bundle.toAbsolutePath());
+    assertEquals(fileReference.size(), 27);
+    assertEquals(config.getValue("tls.bundle", String.class), "-----BEGIN CERTIFICATE-----");
+    assertEquals(config.getValue("tls.bundle", ByteBuffer.class).remaining(), 27);
+    assertTrue(
+        ((TypesafeConfigValue) config.getConfigValue("tls.bundle")).getFileReference().isPresent());
+
+    // a bound String field resolves the reference like getValue does
+    DBConfig dbConfig =
+        DBConfig_BeanSuppliers.bind(
+            ConfigFactory.parseString(
+                "user = root, password = \"${file:" + bundle.toAbsolutePath() + "}\""));
+    assertEquals(dbConfig.getPassword(), "-----BEGIN CERTIFICATE-----");
+    assertEquals(dbConfig.getUser(), "root");
+  }
+
+  @Test
+  void testReload(@TempDir Path dir) throws IOException, InterruptedException {
+    Path conf = dir.resolve("db.conf");
+    Files.writeString(conf, "db { user = admin, password = secret, max-pool-size = 5 }");
+    TypesafeConfig config = new TypesafeConfig().load(dir.toString());
+    ConfigHolder<DBConfig> holder = new ConfigHolder<>(config, "db", DBConfig_BeanSuppliers::load);
+    DBConfig before = holder.get();
+    assertEquals(before.getMaxPoolSize(), 5);
+
+    CountDownLatch reloaded = new CountDownLatch(1);
+    config.addChangeListener(event -> reloaded.countDown());
+    config.watch(Duration.ofMillis(100));
+    try {
+      Files.writeString(conf, "db { user = admin, password = secret, max-pool-size = 50 }");
+      assertTrue(reloaded.await(10, TimeUnit.SECONDS));
+    } finally {
+      config.unwatch();
+    }
+
+    assertEquals(holder.get().getMaxPoolSize(), 50);
+    assertEquals(before.getMaxPoolSize(), 5);
+    assertEquals(config.unwrap(com.typesafe.config.Config.class).getInt("db.max-pool-size"), 50);
+
+    QueryDAO queryDAO = BeanContext.get(QueryDAO.class);
+    for (int i = 0; i < 100 && queryDAO.getConfigChangedEvent() == null; i++) {
+      Thread.sleep(50);
+    }
+    assertNotNull(queryDAO.getConfigChangedEvent());
+    assertTrue(queryDAO.getConfigChangedEvent().isChanged("db.max-pool-size"));
+    assertFalse(queryDAO.getConfigChangedEvent().isChanged("db.user"));
+  }
+
+  @Test
+  void testInheritedFields() {
+    PoolConfig poolConfig =
+        PoolConfig_BeanSuppliers.bind(
+            ConfigFactory.parseString("size = 8, max-idle = 4, timeout = 500"));
+    // the int setter is picked over setSize(String)
+    assertEquals(poolConfig.getSize(), 8);
+    // protected fields of a superclass in another package are set reflectively
+    assertEquals(poolConfig.getMaxIdle(), 4);
+    // setTimeout(String) does not match the long field
+    assertEquals(poolConfig.getTimeout(), 500);
+  }
+
+  @Test
+  void testFieldTypeNotSupported(@TempDir Path dir) throws IOException {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    compilePoolDAO(dir, POOL_LABELS, new ConfigProcessor(), diagnostics);
+    List<Diagnostic<? extends JavaFileObject>> errors =
+        diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .collect(Collectors.toList());
+    assertEquals(errors.size(), 1);
+    assertEquals(
+        errors.get(0).getMessage(null),
+        "-60704: unsupported type java.util.Map<java.lang.String,java.lang.String> "
+            + "of config field labels in: io.nozdormu.config.check.PoolDAO");
+    assertTrue(errors.get(0).getSource().getName().endsWith("PoolDAO.java"));
+    assertEquals(errors.get(0).getLineNumber(), 9);
+  }
+
+  @Test
+  void testPropertyValueNotExist(@TempDir Path dir) throws IOException {
+    Files.createDirectories(dir.resolve("src/test/resources"));
+    Files.writeString(dir.resolve("src/test/resources/application.conf"), "pool.size = 10");
+    assertEquals(
+        compilePoolDAO(dir, ""),
+        Optional.of(
+            "-60703: config property pool.size not exist, required by: "
+                + "io.nozdormu.config.check.PoolDAO"));
+  }
+
+  @Test
+  void testPropertyDefaultValueInvalid(@TempDir Path dir) throws IOException {
+    assertEquals(
+        compilePoolDAO(dir, ", defaultValue = \"ten\""),
+        Optional.of(
+            "-60702: invalid defaultValue ten of @ConfigProperty pool.size on: "
+                + "io.nozdormu.config.check.PoolDAO"));
+  }
+
+  private Optional<String> compilePoolDAO(Path projectPath, String defaultValue)
+      throws IOException {
+    try {
+      compilePoolDAO(
+          projectPath, String.format(POOL_DAO, defaultValue), new InjectProcessor(), null);
+      return Optional.empty();
+    } catch (RuntimeException e) {
+      for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+        if (cause instanceof InjectionProcessException) {
+          return Optional.of(cause.getMessage());
+        }
+      }
+      throw e;
+    }
+  }
+
+  private Path compilePoolDAO(
+      Path projectPath,
+      String source,
+      Processor processor,
+      DiagnosticListener<? super JavaFileObject> diagnosticListener,
+      String... options)
+      throws IOException {
+    Path sourcePath = projectPath.resolve("src/main/java/io/nozdormu/config/check");
+    Path generatedSourcePath =
+        projectPath.resolve("build/generated/sources/annotationProcessor/java/main");
+    Path classPath = projectPath.resolve("build/classes/java/main");
+    Files.createDirectories(sourcePath);
+    Files.createDirectories(generatedSourcePath);
+    Files.createDirectories(classPath);
+    Path sourceFile =
+        Files.writeString(sourcePath.resolve("PoolDAO.java"), source, StandardCharsets.UTF_8);
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      List<String> compilerOptions =
+          new ArrayList<>(
+              List.of(
+                  "-proc:only",
+                  "-classpath",
+                  System.getProperty("java.class.path"),
+                  "-s",
+                  generatedSourcePath.toString(),
+                  "-d",
+                  classPath.toString()));
+      compilerOptions.addAll(List.of(options));
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnosticListener,
+              compilerOptions,
+              null,
+              fileManager.getJavaFileObjects(sourceFile));
+      task.setProcessors(List.of(processor));
+      task.call();
+    }
+    return classPath;
   }
 }
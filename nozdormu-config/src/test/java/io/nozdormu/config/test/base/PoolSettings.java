@@ -0,0 +1,20 @@
+package io.nozdormu.config.test.base;
+
+public abstract class PoolSettings {
+
+  protected int maxIdle = 2;
+
+  protected long timeout = 1000;
+
+  public int getMaxIdle() {
+    return maxIdle;
+  }
+
+  public long getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(String timeout) {
+    this.timeout = Long.parseLong(timeout.trim()) * 1000;
+  }
+}
@@ -3,6 +3,9 @@ package io.nozdormu.config.test.config;
 import com.typesafe.config.Optional;
 import org.eclipse.microprofile.config.inject.ConfigProperties;
 
+import java.time.Duration;
+import java.util.List;
+
 @ConfigProperties(prefix = "db")
 public class DBConfig {
 
@@ -16,6 +19,20 @@ public class DBConfig {
 
   @Optional private String db;
 
+  @Optional private int maxPoolSize = 10;
+
+  @Optional private Duration timeout = Duration.ofSeconds(30);
+
+  @Optional private List<String> options = List.of();
+
+  @Optional private List<Float> weights = List.of();
+
+  @Optional private List<Short> shards = List.of();
+
+  @Optional private List<Byte> flags = List.of();
+
+  @Optional private List<Character> separators = List.of();
+
   public String getHost() {
     return host;
   }
@@ -56,6 +73,62 @@ public class DBConfig {
     this.db = db;
   }
 
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public void setMaxPoolSize(int maxPoolSize) {
+    this.maxPoolSize = maxPoolSize;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  public List<String> getOptions() {
+    return options;
+  }
+
+  public void setOptions(List<String> options) {
+    this.options = options;
+  }
+
+  public List<Float> getWeights() {
+    return weights;
+  }
+
+  public void setWeights(List<Float> weights) {
+    this.weights = weights;
+  }
+
+  public List<Short> getShards() {
+    return shards;
+  }
+
+  public void setShards(List<Short> shards) {
+    this.shards = shards;
+  }
+
+  public List<Byte> getFlags() {
+    return flags;
+  }
+
+  public void setFlags(List<Byte> flags) {
+    this.flags = flags;
+  }
+
+  public List<Character> getSeparators() {
+    return separators;
+  }
+
+  public void setSeparators(List<Character> separators) {
+    this.separators = separators;
+  }
+
   @Override
   public String toString() {
     return "DBConfig{"
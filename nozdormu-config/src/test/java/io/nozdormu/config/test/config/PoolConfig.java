@@ -0,0 +1,22 @@
+package io.nozdormu.config.test.config;
+
+import io.nozdormu.config.test.base.PoolSettings;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+@ConfigProperties(prefix = "pool")
+public class PoolConfig extends PoolSettings {
+
+  private int size;
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(String size) {
+    throw new UnsupportedOperationException(size);
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+}
@@ -1,13 +1,32 @@
 package io.nozdormu.config.test.config;
 
+import io.nozdormu.config.ConfigChangedEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Duration;
+import java.util.Optional;
+
 @ApplicationScoped
 public class QueryDAO {
 
   @ConfigProperty private DBConfig dbConfig;
 
+  @ConfigProperty(name = "db.max-pool-size")
+  private int maxPoolSize;
+
+  @ConfigProperty(name = "db.idle-timeout", defaultValue = "30s")
+  private Duration idleTimeout;
+
+  @ConfigProperty(name = "db.ssl", defaultValue = "off")
+  private boolean ssl;
+
+  @ConfigProperty(name = "db.schema")
+  private Optional<String> schema;
+
+  private volatile ConfigChangedEvent configChangedEvent;
+
   public void setDbConfig(DBConfig dbConfig) {
     this.dbConfig = dbConfig;
   }
@@ -19,4 +38,44 @@ public class QueryDAO {
   public DBConfig getDbConfig() {
     return dbConfig;
   }
+
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public void setMaxPoolSize(int maxPoolSize) {
+    this.maxPoolSize = maxPoolSize;
+  }
+
+  public Duration getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  public void setIdleTimeout(Duration idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+
+  public boolean isSsl() {
+    return ssl;
+  }
+
+  public void setSsl(boolean ssl) {
+    this.ssl = ssl;
+  }
+
+  public Optional<String> getSchema() {
+    return schema;
+  }
+
+  public void setSchema(Optional<String> schema) {
+    this.schema = schema;
+  }
+
+  public ConfigChangedEvent getConfigChangedEvent() {
+    return configChangedEvent;
+  }
+
+  public void onConfigChanged(@Observes ConfigChangedEvent configChangedEvent) {
+    this.configChangedEvent = configChangedEvent;
+  }
 }
@@ -1,6 +1,7 @@
 package io.nozdormu.decompiler.cfr;
 
 import com.google.common.base.Strings;
+import io.nozdormu.spi.decompiler.DecompilerPool;
 import io.nozdormu.spi.decompiler.TypeElementDecompiler;
 import org.benf.cfr.reader.api.CfrDriver;
 import org.benf.cfr.reader.api.OutputSinkFactory;
@@ -8,10 +9,6 @@ import org.benf.cfr.reader.api.SinkReturns;
 
 import javax.lang.model.element.TypeElement;
 import java.io.StringWriter;
-import java.net.URISyntaxException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.security.CodeSource;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -22,6 +19,8 @@ public class CFRDecompiler implements TypeElementDecompiler {
 
   private final ClassLoader classLoader;
 
+  private final DecompilerPool decompilerPool = new DecompilerPool();
+
   private static final Map<String, String> DECOMPILED_CACHE = new ConcurrentHashMap<>();
 
   public CFRDecompiler(ClassLoader classLoader) {
@@ -51,7 +50,28 @@ public class CFRDecompiler implements TypeElementDecompiler {
     throw new RuntimeException(decompileClassName + " not find");
   }
 
+  @Override
+  public void release() {
+    decompilerPool.close();
+  }
+
   private boolean decompileAndCache(String decompileClassName) {
+    try {
+      Class<?> decompileClass = Class.forName(decompileClassName, false, classLoader);
+      // a jar is analysed as a whole in one run, once
+      String input =
+          DecompilerPool.getCodeSource(decompileClass)
+              .map(path -> path.toAbsolutePath().toString())
+              .orElseGet(decompileClass::getName);
+      decompilerPool.computeOnce(
+          List.of(CFRDecompiler.class.getName(), input), () -> analyse(input));
+      return DECOMPILED_CACHE.containsKey(decompileClassName);
+    } catch (ClassNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private boolean analyse(String input) {
     StringWriter summaryOutput = new StringWriter();
     OutputSinkFactory.Sink<String> summarySink = summaryOutput::append;
     StringWriter exceptionsOutput = new StringWriter();
@@ -128,31 +148,20 @@ public class CFRDecompiler implements TypeElementDecompiler {
     CfrDriver cfrDriver =
         new CfrDriver.Builder().withOptions(options).withOutputSink(sinkFactory).build();
 
-    try {
-      Class<?> decompileClass = Class.forName(decompileClassName, false, classLoader);
-      CodeSource codeSource = decompileClass.getProtectionDomain().getCodeSource();
-      if (codeSource != null) {
-        Path path = Paths.get(codeSource.getLocation().toURI());
-        cfrDriver.analyse(List.of(path.toAbsolutePath().toString()));
-      } else {
-        cfrDriver.analyse(List.of(decompileClass.getName()));
-      }
-      if (!Strings.isNullOrEmpty(exceptionsOutput.toString())) {
-        throw new RuntimeException(exceptionsOutput.toString());
-      }
-      DECOMPILED_CACHE.putAll(
-          decompiledList.stream()
-              .map(
-                  decompiledMultiVer ->
-                      new AbstractMap.SimpleEntry<>(
-                          decompiledMultiVer.getPackageName()
-                              + "."
-                              + decompiledMultiVer.getClassName(),
-                          decompiledMultiVer.getJava()))
-              .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-      return DECOMPILED_CACHE.containsKey(decompileClassName);
-    } catch (ClassNotFoundException | URISyntaxException e) {
-      throw new RuntimeException(e);
+    cfrDriver.analyse(List.of(input));
+    if (!Strings.isNullOrEmpty(exceptionsOutput.toString())) {
+      throw new RuntimeException(exceptionsOutput.toString());
     }
+    DECOMPILED_CACHE.putAll(
+        decompiledList.stream()
+            .map(
+                decompiledMultiVer ->
+                    new AbstractMap.SimpleEntry<>(
+                        decompiledMultiVer.getPackageName()
+                            + "."
+                            + decompiledMultiVer.getClassName(),
+                        decompiledMultiVer.getJava()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    return true;
   }
 }
@@ -1,5 +1,6 @@
 package io.nozdormu.decompiler.vineflower;
 
+import io.nozdormu.spi.decompiler.DecompilerPool;
 import io.nozdormu.spi.decompiler.TypeElementDecompiler;
 import org.jetbrains.java.decompiler.api.Decompiler;
 import org.jetbrains.java.decompiler.main.extern.IResultSaver;
@@ -8,13 +9,13 @@ import javax.lang.model.element.TypeElement;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.*;
-import java.security.CodeSource;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.Manifest;
 
@@ -24,6 +25,8 @@ public class VineflowerDecompiler implements TypeElementDecompiler {
 
   private final ClassLoader classLoader;
 
+  private final DecompilerPool decompilerPool = new DecompilerPool();
+
   private final Path jrtPath =
       Paths.get(URI.create("jrt:/")).resolve("/modules").resolve("lib").resolve("jrt-fs.jar");
 
@@ -94,35 +97,46 @@ public class VineflowerDecompiler implements TypeElementDecompiler {
     throw new RuntimeException(decompileClassName + " not find");
   }
 
+  @Override
+  public void release() {
+    decompilerPool.close();
+  }
+
   public boolean decompileAndCache(String decompileClassName) {
     try {
       Class<?> decompileClass = Class.forName(decompileClassName, false, classLoader);
-      CodeSource codeSource = decompileClass.getProtectionDomain().getCodeSource();
-      File file;
-      if (codeSource != null) {
-        file = Paths.get(codeSource.getLocation().toURI()).toFile();
-      } else {
-        URL resource =
-            classLoader.getResource(decompileClass.getName().replace(".", "/") + ".class");
-        if (resource == null) {
-          throw new RuntimeException("Class resource not found: " + decompileClass.getName());
-        }
-        try (URLClassLoader loader = new URLClassLoader(new URL[] {jrtPath.toUri().toURL()});
-            FileSystem fs =
-                FileSystems.newFileSystem(URI.create("jrt:/"), Collections.emptyMap(), loader)) {
-          byte[] bytes = Files.readAllBytes(fs.getPath("/modules/" + resource.getPath()));
-          file = File.createTempFile(decompileClass.getName(), ".class");
-          file.deleteOnExit();
-          Files.write(file.toPath(), bytes);
-        } catch (IOException e) {
-          throw new RuntimeException(e);
-        }
-      }
-
-      Decompiler decompiler = Decompiler.builder().inputs(file).output(resultSaver).build();
-      decompiler.decompile();
+      Optional<Path> codeSource = DecompilerPool.getCodeSource(decompileClass);
+      // a jar is decompiled as a whole in one run, once
+      Object input = codeSource.isPresent() ? codeSource.get() : decompileClassName;
+      decompilerPool.computeOnce(
+          List.of(VineflowerDecompiler.class.getName(), input),
+          () -> {
+            File file =
+                codeSource.isPresent() ? codeSource.get().toFile() : copyClass(decompileClass);
+            Decompiler decompiler = Decompiler.builder().inputs(file).output(resultSaver).build();
+            decompiler.decompile();
+            return true;
+          });
       return DECOMPILED_CACHE.containsKey(decompileClassName);
-    } catch (ClassNotFoundException | URISyntaxException e) {
+    } catch (ClassNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private File copyClass(Class<?> decompileClass) {
+    URL resource = classLoader.getResource(decompileClass.getName().replace(".", "/") + ".class");
+    if (resource == null) {
+      throw new RuntimeException("Class resource not found: " + decompileClass.getName());
+    }
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {jrtPath.toUri().toURL()});
+        FileSystem fs =
+            FileSystems.newFileSystem(URI.create("jrt:/"), Collections.emptyMap(), loader)) {
+      byte[] bytes = Files.readAllBytes(fs.getPath("/modules/" + resource.getPath()));
+      File file = File.createTempFile(decompileClass.getName(), ".class");
+      file.deleteOnExit();
+      Files.write(file.toPath(), bytes);
+      return file;
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
@@ -4,18 +4,16 @@ import com.strobel.assembler.metadata.JarTypeLoader;
 import com.strobel.decompiler.Decompiler;
 import com.strobel.decompiler.DecompilerSettings;
 import com.strobel.decompiler.PlainTextOutput;
+import io.nozdormu.spi.decompiler.DecompilerPool;
 import io.nozdormu.spi.decompiler.TypeElementDecompiler;
 
 import javax.lang.model.element.TypeElement;
-import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.net.URISyntaxException;
-import java.nio.file.Paths;
-import java.security.CodeSource;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.jar.JarFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import static io.nozdormu.spi.utils.DecompileUtil.getDecompileClassName;
 
@@ -23,7 +21,7 @@ public class ProcyonDecompiler implements TypeElementDecompiler {
 
   private final ClassLoader classLoader;
 
-  private static final Map<String, String> DECOMPILED_CACHE = new ConcurrentHashMap<>();
+  private final DecompilerPool decompilerPool = new DecompilerPool();
 
   public ProcyonDecompiler(ClassLoader classLoader) {
     this.classLoader = classLoader;
@@ -45,24 +43,37 @@ public class ProcyonDecompiler implements TypeElementDecompiler {
   public String decompile(TypeElement typeElement) {
     String decompileClassName =
         getDecompileClassName(typeElement.getQualifiedName().toString(), classLoader);
-    if (DECOMPILED_CACHE.containsKey(decompileClassName)) {
-      return DECOMPILED_CACHE.get(decompileClassName);
+    try {
+      Class<?> decompileClass = Class.forName(decompileClassName, false, classLoader);
+      Optional<Path> codeSource =
+          DecompilerPool.getCodeSource(decompileClass).filter(Files::isRegularFile);
+      // the same class name can come from different jars
+      return decompilerPool.computeOnce(
+          List.of(
+              ProcyonDecompiler.class.getName(),
+              codeSource.map(Path::toString).orElse(""),
+              decompileClassName),
+          () -> decompileClass(decompileClassName, codeSource));
+    } catch (ClassNotFoundException e) {
+      throw new RuntimeException(e);
     }
+  }
+
+  @Override
+  public void release() {
+    decompilerPool.close();
+  }
+
+  private String decompileClass(String decompileClassName, Optional<Path> codeSource) {
     try (StringWriter writer = new StringWriter()) {
-      Class<?> decompileClass = Class.forName(decompileClassName, false, classLoader);
-      CodeSource codeSource = decompileClass.getProtectionDomain().getCodeSource();
-      final DecompilerSettings settings = DecompilerSettings.javaDefaults();
-      if (codeSource != null) {
-        File file = Paths.get(codeSource.getLocation().toURI()).toFile();
-        settings.setTypeLoader(new JarTypeLoader(new JarFile(file)));
+      DecompilerSettings settings = DecompilerSettings.javaDefaults();
+      if (codeSource.isPresent()) {
+        settings.setTypeLoader(new JarTypeLoader(decompilerPool.getJarFile(codeSource.get())));
       }
-
       Decompiler.decompile(
           decompileClassName.replace(".", "/"), new PlainTextOutput(writer), settings);
-      String java = writer.toString();
-      DECOMPILED_CACHE.put(decompileClassName, java);
-      return java;
-    } catch (ClassNotFoundException | URISyntaxException | IOException e) {
+      return writer.toString();
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
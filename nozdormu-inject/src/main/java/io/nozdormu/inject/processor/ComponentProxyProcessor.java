@@ -4,8 +4,15 @@ import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import io.nozdormu.common.ProcessorManager;
 
+import java.util.Collections;
+import java.util.Set;
+
 public interface ComponentProxyProcessor {
 
+  default Set<String> getSupportedOptions() {
+    return Collections.emptySet();
+  }
+
   default void init(ProcessorManager processorManager) {}
 
   default void inProcess() {}
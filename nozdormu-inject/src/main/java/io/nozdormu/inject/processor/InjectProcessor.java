@@ -2,6 +2,7 @@ package io.nozdormu.inject.processor;
 
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.*;
 import com.github.javaparser.ast.expr.*;
@@ -13,9 +14,11 @@ import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
 import com.github.javaparser.ast.type.Type;
 import com.github.javaparser.ast.type.UnknownType;
 import com.github.javaparser.ast.type.VoidType;
+import com.github.javaparser.ast.type.WildcardType;
 import com.google.auto.service.AutoService;
 import com.google.common.collect.Streams;
 import io.nozdormu.common.ProcessorManager;
@@ -26,8 +29,10 @@ import io.nozdormu.spi.event.ScopeEventObserver;
 import jakarta.annotation.Generated;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.*;
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.*;
@@ -39,10 +44,14 @@ import reactor.core.publisher.Mono;
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.nozdormu.spi.error.InjectionProcessErrorType.*;
 
@@ -54,12 +63,23 @@ import static io.nozdormu.spi.error.InjectionProcessErrorType.*;
   "jakarta.enterprise.context.SessionScoped",
   "jakarta.transaction.TransactionScoped"
 })
-@SupportedOptions({"rootProjectDir", "decompileCacheDir"})
+@SupportedOptions({
+  "rootProjectDir",
+  "decompileCacheDir",
+  "compilationUnitCacheSize",
+  "compilationUnitCacheDebug"
+})
 @AutoService(Processor.class)
 public class InjectProcessor extends AbstractProcessor {
 
   private static final Logger logger = LoggerFactory.getLogger(InjectProcessor.class);
   private final Set<ComponentProxyProcessor> componentProxyProcessors = new HashSet<>();
+  // suppliers of Mono producers are registered under the produced type, so they are rejected
+  // at injection points that ask for the bean itself. The processor is isolating, the check only
+  // covers the components of the current round
+  private final Set<String> asyncBeanTypes = new HashSet<>();
+  private final Set<String> syncBeanTypes = new HashSet<>();
+  private final Map<String, NodeWithAnnotations<?>> syncInjectionPoints = new HashMap<>();
   private ProcessorManager processorManager;
 
   @Override
@@ -67,6 +87,15 @@ public class InjectProcessor extends AbstractProcessor {
     return SourceVersion.latestSupported();
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> supportedOptions = new HashSet<>(super.getSupportedOptions());
+    componentProxyProcessors.forEach(
+        componentProxyProcessor ->
+            supportedOptions.addAll(componentProxyProcessor.getSupportedOptions()));
+    return supportedOptions;
+  }
+
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
@@ -83,9 +112,23 @@ public class InjectProcessor extends AbstractProcessor {
 
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      processorManager.release();
+      return false;
+    }
     if (annotations.isEmpty()) {
       return false;
     }
+    try {
+      return processRound(roundEnv);
+    } catch (RuntimeException | Error e) {
+      // an aborted compilation never reaches processingOver
+      processorManager.release();
+      throw e;
+    }
+  }
+
+  private boolean processRound(RoundEnvironment roundEnv) {
     Set<? extends Element> singletonSet = roundEnv.getElementsAnnotatedWith(Singleton.class);
     Set<? extends Element> dependentSet = roundEnv.getElementsAnnotatedWith(Dependent.class);
     Set<? extends Element> applicationScopedSet =
@@ -115,6 +158,9 @@ public class InjectProcessor extends AbstractProcessor {
     }
 
     processorManager.setRoundEnv(roundEnv);
+    asyncBeanTypes.clear();
+    syncBeanTypes.clear();
+    syncInjectionPoints.clear();
 
     componentProxyProcessors.forEach(
         componentProxyProcessor -> {
@@ -122,10 +168,13 @@ public class InjectProcessor extends AbstractProcessor {
           componentProxyProcessor.inProcess();
         });
 
+    List<Map.Entry<CompilationUnit, TypeElement>> generatedCompilationUnits = new ArrayList<>();
     typeElements.forEach(
         typeElement ->
             processorManager
                 .getCompilationUnit(typeElement)
+                // the cached unit is shared with later builds, proxies are built from a copy
+                .map(CompilationUnit::clone)
                 .ifPresent(
                     componentCompilationUnit -> {
                       Map<String, CompilationUnit> proxyCompilationUnitMap = new HashMap<>();
@@ -134,18 +183,79 @@ public class InjectProcessor extends AbstractProcessor {
                               compilationUnit -> {
                                 proxyCompilationUnitMap.put(
                                     typeElement.getQualifiedName().toString(), compilationUnit);
-                                processorManager.writeToFiler(compilationUnit, typeElement);
+                                generatedCompilationUnits.add(
+                                    Map.entry(compilationUnit, typeElement));
                               });
                       CompilationUnit proxySuppliersCompilationUnit =
                           buildProxySuppliers(componentCompilationUnit, proxyCompilationUnitMap);
-                      processorManager.writeToFiler(proxySuppliersCompilationUnit, typeElement);
+                      generatedCompilationUnits.add(
+                          Map.entry(proxySuppliersCompilationUnit, typeElement));
                     }));
 
+    List<Map.Entry<String, NodeWithAnnotations<?>>> asyncBeanInjections =
+        syncInjectionPoints.entrySet().stream()
+            .filter(entry -> asyncBeanTypes.contains(entry.getKey()))
+            .filter(entry -> !syncBeanTypes.contains(entry.getKey()))
+            .collect(Collectors.toList());
+    if (!asyncBeanInjections.isEmpty()) {
+      asyncBeanInjections.forEach(
+          entry -> reportAsyncBeanInjection(entry.getKey(), entry.getValue()));
+      return false;
+    }
+    generatedCompilationUnits.forEach(
+        entry -> processorManager.writeToFiler(entry.getKey(), entry.getValue()));
     return false;
   }
 
+  private void reportAsyncBeanInjection(String beanType, NodeWithAnnotations<?> annotations) {
+    Optional<TypeElement> typeElement =
+        annotations instanceof Node
+            ? ((Node) annotations)
+                .findAncestor(ClassOrInterfaceDeclaration.class)
+                .flatMap(ClassOrInterfaceDeclaration::getFullyQualifiedName)
+                .flatMap(processorManager::getTypeElement)
+            : Optional.empty();
+    String message =
+        ASYNC_BEAN_INJECTED
+            .bind(
+                beanType,
+                typeElement
+                    .map(element -> element.getQualifiedName().toString())
+                    .orElseGet(annotations::toString),
+                beanType)
+            .toString();
+    Optional<Element> element =
+        typeElement.map(
+            injectingElement ->
+                annotations instanceof FieldDeclaration
+                    ? getFieldElement(injectingElement, (FieldDeclaration) annotations)
+                        .orElse(injectingElement)
+                    : injectingElement);
+    if (element.isPresent()) {
+      processorManager.printMessage(Diagnostic.Kind.ERROR, message, element.get());
+    } else {
+      processorManager.printMessage(Diagnostic.Kind.ERROR, message);
+    }
+  }
+
+  private Optional<Element> getFieldElement(
+      TypeElement typeElement, FieldDeclaration fieldDeclaration) {
+    Set<String> names =
+        fieldDeclaration.getVariables().stream()
+            .map(VariableDeclarator::getNameAsString)
+            .collect(Collectors.toSet());
+    return typeElement.getEnclosedElements().stream()
+        .filter(element -> element.getKind() == ElementKind.FIELD)
+        .filter(element -> names.contains(element.getSimpleName().toString()))
+        .map(Element.class::cast)
+        .findFirst();
+  }
+
   private Optional<CompilationUnit> buildComponentProxy(TypeElement typeElement) {
-    return processorManager.getCompilationUnit(typeElement).flatMap(this::buildComponentProxy);
+    return processorManager
+        .getCompilationUnit(typeElement)
+        .map(CompilationUnit::clone)
+        .flatMap(this::buildComponentProxy);
   }
 
   private Optional<CompilationUnit> buildComponentProxy(CompilationUnit componentCompilationUnit) {
@@ -360,13 +470,27 @@ public class InjectProcessor extends AbstractProcessor {
         methodDeclaration -> {
           ClassOrInterfaceDeclaration observerClassDeclaration =
               new ClassOrInterfaceDeclaration()
-                  .addModifier(Modifier.Keyword.PUBLIC, Modifier.Keyword.FINAL)
+                  .addModifier(
+                      Modifier.Keyword.PUBLIC, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL)
                   .addImplementedType(observerInterfaceClass.getSimpleName())
                   .setName(
                       componentClassDeclaration.getNameAsString()
                           + "_"
                           + methodDeclaration.getNameAsString()
                           + "_Observer");
+          observerClassDeclaration.addField(
+              componentClassDeclaration.getNameAsString(),
+              "bean",
+              Modifier.Keyword.PRIVATE,
+              Modifier.Keyword.FINAL);
+          observerClassDeclaration
+              .addConstructor(Modifier.Keyword.PUBLIC)
+              .addParameter(componentClassDeclaration.getNameAsString(), "bean")
+              .createBody()
+              .addStatement(
+                  new AssignExpr()
+                      .setTarget(new FieldAccessExpr().setScope(new ThisExpr()).setName("bean"))
+                      .setValue(new NameExpr("bean")));
 
           Optional<Parameter> observesParameter =
               methodDeclaration.getParameters().stream()
@@ -386,16 +510,80 @@ public class InjectProcessor extends AbstractProcessor {
               .flatMap(parameter -> parameter.getAnnotationByClass(Priority.class))
               .ifPresent(observerClassDeclaration::addAnnotation);
 
+          observesParameter
+              .flatMap(parameter -> parameter.getAnnotationByClass(Observes.class))
+              .filter(AnnotationExpr::isNormalAnnotationExpr)
+              .flatMap(
+                  annotationExpr ->
+                      annotationExpr.asNormalAnnotationExpr().getPairs().stream()
+                          .filter(pair -> pair.getNameAsString().equals("during"))
+                          .findFirst())
+              .map(
+                  pair ->
+                      pair.getValue().isFieldAccessExpr()
+                          ? pair.getValue().asFieldAccessExpr().getNameAsString()
+                          : pair.getValue().toString())
+              .filter(phase -> !phase.equals(TransactionPhase.IN_PROGRESS.name()))
+              .ifPresent(
+                  phase -> {
+                    proxyCompilationUnit.addImport(TransactionPhase.class);
+                    MethodDeclaration getTransactionPhase =
+                        new MethodDeclaration()
+                            .setName("getTransactionPhase")
+                            .setModifiers(Modifier.Keyword.PUBLIC)
+                            .setType(TransactionPhase.class)
+                            .addAnnotation(Override.class);
+                    getTransactionPhase
+                        .createBody()
+                        .addStatement(
+                            new ReturnStmt(
+                                new FieldAccessExpr()
+                                    .setScope(new NameExpr(TransactionPhase.class.getSimpleName()))
+                                    .setName(phase)));
+                    observerClassDeclaration.addMember(getTransactionPhase);
+                  });
+
+          Parameter eventParameter = observesParameter.orElse(methodDeclaration.getParameter(0));
+          Expression eventArgument = new NameExpr(eventParameter.getNameAsString());
+          if (!isObjectType(eventParameter.getType())) {
+            eventArgument =
+                new CastExpr()
+                    .setType(eventParameter.getType().clone())
+                    .setExpression(eventArgument);
+            if (eventParameter.getType().isClassOrInterfaceType()
+                && eventParameter
+                    .getType()
+                    .asClassOrInterfaceType()
+                    .getTypeArguments()
+                    .isPresent()) {
+              observerClassDeclaration.addSingleMemberAnnotation(
+                  SuppressWarnings.class, new StringLiteralExpr("unchecked"));
+            }
+            MethodDeclaration getEventType =
+                new MethodDeclaration()
+                    .setName("getEventType")
+                    .setModifiers(Modifier.Keyword.PUBLIC)
+                    .setType(
+                        new ClassOrInterfaceType()
+                            .setName(Class.class.getSimpleName())
+                            .setTypeArguments(new WildcardType()))
+                    .addAnnotation(Override.class);
+            getEventType
+                .createBody()
+                .addStatement(new ReturnStmt(new ClassExpr(getEventClassType(eventParameter))));
+            observerClassDeclaration.addMember(getEventType);
+          }
+
           if (isMonoType(methodDeclaration.getType())) {
             proxyCompilationUnit.addImport(Void.class);
 
-            MethodDeclaration onEvent =
+            MethodDeclaration onEventAsync =
                 new MethodDeclaration()
                     .setName("onEventAsync")
                     .setModifiers(Modifier.Keyword.PUBLIC)
                     .addParameter(
                         new Parameter()
-                            .setName(methodDeclaration.getParameter(0).getName())
+                            .setName(eventParameter.getName())
                             .setType(Object.class.getSimpleName()))
                     .setType(
                         new ClassOrInterfaceType()
@@ -404,16 +592,52 @@ public class InjectProcessor extends AbstractProcessor {
                                 new ClassOrInterfaceType().setName(Void.class.getSimpleName())))
                     .addAnnotation(Override.class);
 
-            onEvent.setBody(
+            onEventAsync.setBody(
                 new BlockStmt()
                     .addStatement(
                         new ReturnStmt(
                             new MethodCallExpr()
                                 .setName(methodDeclaration.getName())
-                                .addArgument(
-                                    methodDeclaration.getParameter(0).getNameAsExpression()))));
+                                .setScope(new NameExpr("bean"))
+                                .addArgument(eventArgument.clone()))));
 
-            observerClassDeclaration.addMember(onEvent);
+            observerClassDeclaration.addMember(onEventAsync);
+
+            MethodDeclaration isReactive =
+                new MethodDeclaration()
+                    .setName("isReactive")
+                    .setModifiers(Modifier.Keyword.PUBLIC)
+                    .setType(PrimitiveType.booleanType())
+                    .addAnnotation(Override.class);
+            isReactive.createBody().addStatement(new ReturnStmt(new BooleanLiteralExpr(true)));
+            observerClassDeclaration.addMember(isReactive);
+
+            if (observesAnnotationClass.equals(Observes.class)) {
+              MethodDeclaration onEvent =
+                  new MethodDeclaration()
+                      .setName("onEvent")
+                      .setModifiers(Modifier.Keyword.PUBLIC)
+                      .addParameter(
+                          new Parameter()
+                              .setName(eventParameter.getName())
+                              .setType(Object.class.getSimpleName()))
+                      .setType(new VoidType())
+                      .addAnnotation(Override.class);
+
+              // a synchronous fire returns after the observer completed and rethrows its error
+              onEvent.setBody(
+                  new BlockStmt()
+                      .addStatement(
+                          new MethodCallExpr()
+                              .setName("block")
+                              .setScope(
+                                  new MethodCallExpr()
+                                      .setName(methodDeclaration.getName())
+                                      .setScope(new NameExpr("bean"))
+                                      .addArgument(eventArgument.clone()))));
+
+              observerClassDeclaration.addMember(onEvent);
+            }
           } else {
             MethodDeclaration onEvent =
                 new MethodDeclaration()
@@ -421,7 +645,7 @@ public class InjectProcessor extends AbstractProcessor {
                     .setModifiers(Modifier.Keyword.PUBLIC)
                     .addParameter(
                         new Parameter()
-                            .setName(methodDeclaration.getParameter(0).getName())
+                            .setName(eventParameter.getName())
                             .setType(Object.class.getSimpleName()))
                     .setType(new VoidType())
                     .addAnnotation(Override.class);
@@ -431,7 +655,8 @@ public class InjectProcessor extends AbstractProcessor {
                     .addStatement(
                         new MethodCallExpr()
                             .setName(methodDeclaration.getName())
-                            .addArgument(methodDeclaration.getParameter(0).getNameAsExpression())));
+                            .setScope(new NameExpr("bean"))
+                            .addArgument(eventArgument.clone())));
 
             observerClassDeclaration.addMember(onEvent);
           }
@@ -440,6 +665,21 @@ public class InjectProcessor extends AbstractProcessor {
         });
   }
 
+  private boolean isObjectType(Type type) {
+    return type.isClassOrInterfaceType()
+        && (type.asClassOrInterfaceType().getNameAsString().equals(Object.class.getSimpleName())
+            || type.asClassOrInterfaceType().getNameAsString().equals(Object.class.getName()));
+  }
+
+  private Type getEventClassType(Parameter eventParameter) {
+    if (eventParameter.getType().isPrimitiveType()) {
+      return eventParameter.getType().asPrimitiveType().toBoxedType();
+    } else if (eventParameter.getType().isClassOrInterfaceType()) {
+      return eventParameter.getType().asClassOrInterfaceType().clone().removeTypeArguments();
+    }
+    return eventParameter.getType().clone();
+  }
+
   private boolean isMonoType(Type type) {
     if (!type.isClassOrInterfaceType()) {
       return false;
@@ -697,6 +937,46 @@ public class InjectProcessor extends AbstractProcessor {
                                                                   NodeList::new)))
                                               .orElseGet(NodeList::new))));
 
+      Optional<MethodDeclaration> asyncProducesMethodDeclaration =
+          proxyCompilationUnitMap.containsKey(qualifiedName)
+              ? Optional.empty()
+              : componentClassDeclaration.getMethods().stream()
+                  .filter(NodeWithStaticModifier::isStatic)
+                  .filter(
+                      methodDeclaration -> methodDeclaration.isAnnotationPresent(Produces.class))
+                  .filter(
+                      methodDeclaration ->
+                          processorManager
+                              .getQualifiedName(methodDeclaration.getType())
+                              .equals(Mono.class.getName()))
+                  .filter(
+                      methodDeclaration ->
+                          processorManager.getQualifiedName(methodDeclaration).equals(qualifiedName))
+                  .findFirst();
+
+      if (asyncProducesMethodDeclaration.isPresent()) {
+        objectCreateExpression =
+            new MethodCallExpr()
+                .setName(asyncProducesMethodDeclaration.get().getName())
+                .setArguments(
+                    asyncProducesMethodDeclaration.get().getParameters().stream()
+                        .map(
+                            parameter ->
+                                getBeanGetMethodCallExpr(
+                                    suppliersCompilationUnit,
+                                    parameter,
+                                    parameter.getType().asClassOrInterfaceType()))
+                        .map(methodCallExpr -> (Expression) methodCallExpr)
+                        .collect(Collectors.toCollection(NodeList::new)))
+                .setScope(new NameExpr(qualifiedName));
+      }
+
+      if (asyncProducesMethodDeclaration.isPresent()) {
+        asyncBeanTypes.add(qualifiedName);
+      } else {
+        syncBeanTypes.add(qualifiedName);
+      }
+
       Expression getInstanceExpression;
       if (componentClassDeclaration.isAnnotationPresent(Singleton.class)
           || componentClassDeclaration.isAnnotationPresent(ApplicationScoped.class)) {
@@ -705,10 +985,23 @@ public class InjectProcessor extends AbstractProcessor {
                 .setName(componentPrefix + "Holder")
                 .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC);
 
-        holderClassDeclaration
-            .addFieldWithInitializer(qualifiedName, "INSTANCE", objectCreateExpression)
-            .setModifiers(
-                Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
+        if (asyncProducesMethodDeclaration.isPresent()) {
+          suppliersCompilationUnit.addImport(Mono.class);
+          holderClassDeclaration
+              .addFieldWithInitializer(
+                  new ClassOrInterfaceType()
+                      .setName(Mono.class.getSimpleName())
+                      .setTypeArguments(new ClassOrInterfaceType().setName(qualifiedName)),
+                  "INSTANCE",
+                  buildCacheMethodCallExpr(suppliersCompilationUnit, objectCreateExpression))
+              .setModifiers(
+                  Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
+        } else {
+          holderClassDeclaration
+              .addFieldWithInitializer(qualifiedName, "INSTANCE", objectCreateExpression)
+              .setModifiers(
+                  Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
+        }
 
         suppliersClassDeclaration.addMember(holderClassDeclaration);
 
@@ -730,7 +1023,7 @@ public class InjectProcessor extends AbstractProcessor {
 
         getInstanceExpression =
             new MethodCallExpr()
-                .setName("get")
+                .setName(asyncProducesMethodDeclaration.isPresent() ? "getMono" : "get")
                 .addArgument(new ClassExpr().setType(qualifiedName))
                 .addArgument(
                     new LambdaExpr()
@@ -761,7 +1054,7 @@ public class InjectProcessor extends AbstractProcessor {
           .filter(
               producesMethodDeclaration ->
                   !processorManager
-                      .getQualifiedName(producesMethodDeclaration.getType())
+                      .getQualifiedName(producesMethodDeclaration)
                       .equals(qualifiedName))
           .filter(
               producesMethodDeclaration ->
@@ -772,42 +1065,63 @@ public class InjectProcessor extends AbstractProcessor {
                 String methodTypeQualifiedName =
                     processorManager.getQualifiedName(producesMethodDeclaration);
                 String producesPrefix = methodTypeQualifiedName.replaceAll("\\.", "_");
+                MethodCallExpr producesMethodCallExpr =
+                    new MethodCallExpr()
+                        .setName(producesMethodDeclaration.getName())
+                        .setArguments(
+                            producesMethodDeclaration.getParameters().stream()
+                                .map(
+                                    parameter ->
+                                        getBeanGetMethodCallExpr(
+                                            suppliersCompilationUnit,
+                                            parameter,
+                                            parameter.getType().asClassOrInterfaceType()))
+                                .map(methodCallExpr -> (Expression) methodCallExpr)
+                                .collect(Collectors.toCollection(NodeList::new)))
+                        .setScope(
+                            new MethodCallExpr()
+                                .setName("get")
+                                .addArgument(
+                                    new ClassExpr()
+                                        .setType(
+                                            processorManager.getQualifiedName(
+                                                componentClassDeclaration)))
+                                .setScope(new NameExpr().setName("BeanContext")));
                 ClassOrInterfaceDeclaration holderClassOrInterfaceDeclaration =
-                    new ClassOrInterfaceDeclaration();
-                holderClassOrInterfaceDeclaration
-                    .setName(
-                        producesPrefix
-                            + "Holder"
-                            + componentClassDeclaration
-                                .getMethods()
-                                .indexOf(producesMethodDeclaration))
-                    .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC)
-                    .addFieldWithInitializer(
-                        methodTypeQualifiedName,
-                        "INSTANCE",
-                        new MethodCallExpr()
-                            .setName(producesMethodDeclaration.getName())
-                            .setArguments(
-                                producesMethodDeclaration.getParameters().stream()
-                                    .map(
-                                        parameter ->
-                                            getBeanGetMethodCallExpr(
-                                                suppliersCompilationUnit,
-                                                parameter,
-                                                parameter.getType().asClassOrInterfaceType()))
-                                    .map(methodCallExpr -> (Expression) methodCallExpr)
-                                    .collect(Collectors.toCollection(NodeList::new)))
-                            .setScope(
-                                new MethodCallExpr()
-                                    .setName("get")
-                                    .addArgument(
-                                        new ClassExpr()
-                                            .setType(
-                                                processorManager.getQualifiedName(
-                                                    componentClassDeclaration)))
-                                    .setScope(new NameExpr().setName("BeanContext"))))
-                    .setModifiers(
-                        Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
+                    new ClassOrInterfaceDeclaration()
+                        .setName(
+                            producesPrefix
+                                + "Holder"
+                                + componentClassDeclaration
+                                    .getMethods()
+                                    .indexOf(producesMethodDeclaration))
+                        .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC);
+                if (processorManager
+                    .getQualifiedName(producesMethodDeclaration.getType())
+                    .equals(Mono.class.getName())) {
+                  suppliersCompilationUnit.addImport(Mono.class);
+                  holderClassOrInterfaceDeclaration
+                      .addFieldWithInitializer(
+                          new ClassOrInterfaceType()
+                              .setName(Mono.class.getSimpleName())
+                              .setTypeArguments(
+                                  new ClassOrInterfaceType().setName(methodTypeQualifiedName)),
+                          "INSTANCE",
+                          buildCacheMethodCallExpr(
+                              suppliersCompilationUnit, producesMethodCallExpr))
+                      .setModifiers(
+                          Modifier.Keyword.PRIVATE,
+                          Modifier.Keyword.STATIC,
+                          Modifier.Keyword.FINAL);
+                } else {
+                  holderClassOrInterfaceDeclaration
+                      .addFieldWithInitializer(
+                          methodTypeQualifiedName, "INSTANCE", producesMethodCallExpr)
+                      .setModifiers(
+                          Modifier.Keyword.PRIVATE,
+                          Modifier.Keyword.STATIC,
+                          Modifier.Keyword.FINAL);
+                }
 
                 suppliersClassDeclaration.addMember(holderClassOrInterfaceDeclaration);
               });
@@ -970,13 +1284,20 @@ public class InjectProcessor extends AbstractProcessor {
           .filter(
               producesMethodDeclaration ->
                   !processorManager
-                      .getQualifiedName(producesMethodDeclaration.getType())
+                      .getQualifiedName(producesMethodDeclaration)
                       .equals(qualifiedName))
           .forEach(
               producesMethodDeclaration -> {
                 String methodTypeQualifiedName =
                     processorManager.getQualifiedName(producesMethodDeclaration);
                 String producesPrefix = methodTypeQualifiedName.replaceAll("\\.", "_");
+                if (processorManager
+                    .getQualifiedName(producesMethodDeclaration.getType())
+                    .equals(Mono.class.getName())) {
+                  asyncBeanTypes.add(methodTypeQualifiedName);
+                } else {
+                  syncBeanTypes.add(methodTypeQualifiedName);
+                }
 
                 MethodCallExpr mapOfProduces =
                     new MethodCallExpr().setName("of").setScope(new NameExpr("Map"));
@@ -1158,69 +1479,32 @@ public class InjectProcessor extends AbstractProcessor {
                                                     .setTypeArguments())))
                                 .setScope(new NameExpr("beanSuppliers"))));
 
-                processorManager
-                    .getClassOrInterfaceDeclaration(methodTypeQualifiedName)
-                    .ifPresent(
-                        returnTypeClassOrInterfaceDeclaration -> {
-                          processorManager
-                              .getExtendedTypes(returnTypeClassOrInterfaceDeclaration)
-                              .forEach(
-                                  extendedTypeName ->
-                                      staticInitializer.addStatement(
-                                          new MethodCallExpr()
-                                              .setName("put")
-                                              .addArgument(
-                                                  new StringLiteralExpr(methodTypeQualifiedName))
-                                              .addArgument(
-                                                  new NameExpr(producesPrefix + "_beanSupplier"))
-                                              .setScope(
-                                                  new MethodCallExpr()
-                                                      .setName("computeIfAbsent")
-                                                      .addArgument(
-                                                          new StringLiteralExpr(extendedTypeName))
-                                                      .addArgument(
-                                                          new LambdaExpr()
-                                                              .addParameter(
-                                                                  new Parameter()
-                                                                      .setName("k")
-                                                                      .setType(new UnknownType()))
-                                                              .setBody(
-                                                                  new ExpressionStmt(
-                                                                      new ObjectCreationExpr()
-                                                                          .setType(HashMap.class)
-                                                                          .setTypeArguments())))
-                                                      .setScope(new NameExpr("beanSuppliers")))));
-
-                          processorManager
-                              .getImplementedTypes(returnTypeClassOrInterfaceDeclaration)
-                              .forEach(
-                                  implementedTypeName ->
-                                      staticInitializer.addStatement(
-                                          new MethodCallExpr()
-                                              .setName("put")
-                                              .addArgument(
-                                                  new StringLiteralExpr(methodTypeQualifiedName))
-                                              .addArgument(
-                                                  new NameExpr(producesPrefix + "_beanSupplier"))
-                                              .setScope(
-                                                  new MethodCallExpr()
-                                                      .setName("computeIfAbsent")
-                                                      .addArgument(
-                                                          new StringLiteralExpr(
-                                                              implementedTypeName))
-                                                      .addArgument(
-                                                          new LambdaExpr()
-                                                              .addParameter(
-                                                                  new Parameter()
-                                                                      .setName("k")
-                                                                      .setType(new UnknownType()))
-                                                              .setBody(
-                                                                  new ExpressionStmt(
-                                                                      new ObjectCreationExpr()
-                                                                          .setType(HashMap.class)
-                                                                          .setTypeArguments())))
-                                                      .setScope(new NameExpr("beanSuppliers")))));
-                        });
+                Stream.concat(
+                        processorManager.getExtendedTypes(methodTypeQualifiedName),
+                        processorManager.getImplementedTypes(methodTypeQualifiedName))
+                    .forEach(
+                        superTypeName ->
+                            staticInitializer.addStatement(
+                                new MethodCallExpr()
+                                    .setName("put")
+                                    .addArgument(new StringLiteralExpr(methodTypeQualifiedName))
+                                    .addArgument(new NameExpr(producesPrefix + "_beanSupplier"))
+                                    .setScope(
+                                        new MethodCallExpr()
+                                            .setName("computeIfAbsent")
+                                            .addArgument(new StringLiteralExpr(superTypeName))
+                                            .addArgument(
+                                                new LambdaExpr()
+                                                    .addParameter(
+                                                        new Parameter()
+                                                            .setName("k")
+                                                            .setType(new UnknownType()))
+                                                    .setBody(
+                                                        new ExpressionStmt(
+                                                            new ObjectCreationExpr()
+                                                                .setType(HashMap.class)
+                                                                .setTypeArguments())))
+                                            .setScope(new NameExpr("beanSuppliers")))));
               });
 
       buildObserverSuppliers(
@@ -1289,6 +1573,16 @@ public class InjectProcessor extends AbstractProcessor {
                   + "_"
                   + methodDeclaration.getNameAsString()
                   + "_Observer";
+          Expression beanExpression =
+              componentClassDeclaration.isAnnotationPresent(Singleton.class)
+                      || componentClassDeclaration.isAnnotationPresent(ApplicationScoped.class)
+                  ? new FieldAccessExpr()
+                      .setName("INSTANCE")
+                      .setScope(new NameExpr(qualifiedName.replaceAll("\\.", "_") + "Holder"))
+                  : new MethodCallExpr()
+                      .setName("get")
+                      .addArgument(new ClassExpr().setType(qualifiedName + "_Proxy"))
+                      .setScope(new NameExpr().setName("BeanContext"));
           ClassOrInterfaceDeclaration holderClassOrInterfaceDeclaration =
               new ClassOrInterfaceDeclaration();
 
@@ -1299,12 +1593,8 @@ public class InjectProcessor extends AbstractProcessor {
                   observerInterfaceClass.getSimpleName(),
                   "INSTANCE",
                   new ObjectCreationExpr()
-                      .setType(new ClassOrInterfaceType().setName(prefix))
-                      .setScope(
-                          new MethodCallExpr()
-                              .setName("get")
-                              .addArgument(new ClassExpr().setType(qualifiedName + "_Proxy"))
-                              .setScope(new NameExpr().setName("BeanContext"))))
+                      .setType(qualifiedName + "_Proxy." + prefix)
+                      .addArgument(beanExpression))
               .setModifiers(
                   Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
 
@@ -1562,6 +1852,7 @@ public class InjectProcessor extends AbstractProcessor {
                 .setName("getProvider")
                 .setScope(new NameExpr().setName("BeanContext"))
                 .addArgument(new ClassExpr().setType(processorManager.getQualifiedName(type)));
+        addSyncInjectionPoint(processorManager.getQualifiedName(type), annotations);
       }
       proxyCompilationUnit.addImport(Provider.class);
     } else if (qualifiedName.equals(Instance.class.getName())) {
@@ -1593,8 +1884,26 @@ public class InjectProcessor extends AbstractProcessor {
                 .setName("getInstance")
                 .setScope(new NameExpr().setName("BeanContext"))
                 .addArgument(new ClassExpr().setType(processorManager.getQualifiedName(type)));
+        addSyncInjectionPoint(processorManager.getQualifiedName(type), annotations);
       }
       proxyCompilationUnit.addImport(Instance.class);
+    } else if (qualifiedName.equals(Event.class.getName())) {
+      Type type =
+          classOrInterfaceType
+              .getTypeArguments()
+              .orElseThrow(() -> new InjectionProcessException(EVENT_TYPE_NOT_EXIST))
+              .get(0);
+      methodCallExpr =
+          new MethodCallExpr()
+              .setName("getEvent")
+              .setScope(new NameExpr().setName("BeanContext"))
+              .addArgument(
+                  new ClassExpr()
+                      .setType(
+                          type.isClassOrInterfaceType()
+                              ? processorManager.getQualifiedName(type)
+                              : Object.class.getName()));
+      proxyCompilationUnit.addImport(Event.class);
     } else {
       if (qualifiedName.equals(Mono.class.getName())) {
         methodCallExpr =
@@ -1617,9 +1926,43 @@ public class InjectProcessor extends AbstractProcessor {
                 .setName("get")
                 .setScope(new NameExpr().setName("BeanContext"))
                 .addArgument(new ClassExpr().setType(qualifiedName));
+        addSyncInjectionPoint(qualifiedName, annotations);
       }
     }
     methodCallExpr.addArgument(mapOf);
     return methodCallExpr;
   }
+
+  private void addSyncInjectionPoint(String beanType, NodeWithAnnotations<?> annotations) {
+    syncInjectionPoints.putIfAbsent(beanType, annotations);
+  }
+
+  // an error is not cached, the next subscriber runs the producer again
+  private MethodCallExpr buildCacheMethodCallExpr(
+      CompilationUnit suppliersCompilationUnit, Expression monoExpression) {
+    suppliersCompilationUnit.addImport(Duration.class);
+    MethodCallExpr forever =
+        new MethodCallExpr()
+            .setName("ofMillis")
+            .addArgument(new FieldAccessExpr(new NameExpr("Long"), "MAX_VALUE"))
+            .setScope(new NameExpr(Duration.class.getSimpleName()));
+    return new MethodCallExpr()
+        .setName("cache")
+        .addArgument(
+            new LambdaExpr()
+                .addParameter(new Parameter().setName("value").setType(new UnknownType()))
+                .setBody(new ExpressionStmt(forever)))
+        .addArgument(
+            new LambdaExpr()
+                .addParameter(new Parameter().setName("error").setType(new UnknownType()))
+                .setBody(
+                    new ExpressionStmt(
+                        new FieldAccessExpr(
+                            new NameExpr(Duration.class.getSimpleName()), "ZERO"))))
+        .addArgument(
+            new LambdaExpr()
+                .setEnclosingParameters(true)
+                .setBody(new ExpressionStmt(forever.clone())))
+        .setScope(monoExpression);
+  }
 }
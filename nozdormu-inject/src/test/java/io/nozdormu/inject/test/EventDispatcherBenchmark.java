@@ -0,0 +1,70 @@
+package io.nozdormu.inject.test;
+
+import io.nozdormu.spi.event.AsyncDelivery;
+import io.nozdormu.spi.event.EventDispatcher;
+import io.nozdormu.spi.event.RingBufferEventDispatcher;
+import io.nozdormu.spi.event.ScopeEventAsyncObserver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EventDispatcherBenchmark {
+
+  private static final int EVENTS = 1_000_000;
+  private static final int LATENCY_SAMPLES = 10_000;
+  private static final int OBSERVERS = 4;
+
+  @Test
+  void benchmarkReactor() {
+    run("reactor", AsyncDelivery.parallel(Integer.MAX_VALUE));
+  }
+
+  @Test
+  void benchmarkRingBuffer() {
+    try (RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(
+            RingBufferEventDispatcher.DEFAULT_BUFFER_SIZE,
+            RingBufferEventDispatcher.WaitStrategy.yielding())) {
+      run("ring buffer", dispatcher);
+    }
+  }
+
+  private void run(String name, EventDispatcher dispatcher) {
+    LongAdder received = new LongAdder();
+    ScopeEventAsyncObserver[] observers = new ScopeEventAsyncObserver[OBSERVERS];
+    Arrays.fill(
+        observers,
+        new ScopeEventAsyncObserver() {
+          @Override
+          public void onEvent(Object event) {
+            received.increment();
+          }
+        });
+
+    long start = System.nanoTime();
+    Flux.range(0, EVENTS).flatMap(index -> dispatcher.deliver(observers, index), 1024).blockLast();
+    long elapsed = System.nanoTime() - start;
+    assertEquals(received.sum(), (long) EVENTS * OBSERVERS);
+
+    long[] latencies = new long[LATENCY_SAMPLES];
+    for (int index = 0; index < LATENCY_SAMPLES; index++) {
+      long sample = System.nanoTime();
+      dispatcher.deliver(observers, index).block();
+      latencies[index] = System.nanoTime() - sample;
+    }
+    Arrays.sort(latencies);
+    System.out.printf(
+        "%s: %,d events/s, latency p50 %,d ns, p99 %,d ns%n",
+        name,
+        EVENTS * TimeUnit.SECONDS.toNanos(1) / elapsed,
+        latencies[LATENCY_SAMPLES / 2],
+        latencies[LATENCY_SAMPLES * 99 / 100]);
+  }
+}
@@ -0,0 +1,140 @@
+package io.nozdormu.inject.test;
+
+import io.nozdormu.spi.context.BeanSuppliers;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IncrementalTest {
+
+  private static final String SERVICE_NAME = BeanSuppliers.class.getName();
+
+  private static final String COMPONENT =
+      String.join(
+          System.lineSeparator(),
+          "package io.nozdormu.inject.incremental;",
+          "",
+          "import jakarta.inject.Singleton;",
+          "",
+          "@Singleton",
+          "public class %s {",
+          "",
+          "  public String getName() {",
+          "    return \"%s\";",
+          "  }",
+          "}");
+
+  @Test
+  void testIncrementalBuild(@TempDir Path projectDir) throws IOException {
+    String classPath = getClassPath(path -> true);
+    // processors are discovered from the path, Gradle's own jars are left out of it
+    String processorPath =
+        getClassPath(path -> !path.getFileName().toString().startsWith("gradle-"));
+    Files.writeString(projectDir.resolve("settings.gradle"), "rootProject.name = 'incremental'");
+    Files.writeString(
+        projectDir.resolve("build.gradle"),
+        String.join(
+            System.lineSeparator(),
+            "plugins {",
+            "    id 'java'",
+            "}",
+            "",
+            "dependencies {",
+            "    implementation files(" + classPath + ")",
+            "    annotationProcessor files(" + processorPath + ")",
+            "}"));
+    Path sourcePath = projectDir.resolve("src/main/java/io/nozdormu/inject/incremental");
+    Files.createDirectories(sourcePath);
+    Files.writeString(sourcePath.resolve("Pump.java"), String.format(COMPONENT, "Pump", "pump"));
+    Files.writeString(sourcePath.resolve("Valve.java"), String.format(COMPONENT, "Valve", "valve"));
+    Path generatedPath =
+        projectDir.resolve(
+            "build/generated/sources/annotationProcessor/java/main/io/nozdormu/inject/incremental");
+
+    Path servicePath =
+        projectDir.resolve("build/classes/java/main/META-INF/services/" + SERVICE_NAME);
+    List<String> services =
+        List.of(
+            "io.nozdormu.inject.incremental.Pump_BeanSuppliers",
+            "io.nozdormu.inject.incremental.Valve_BeanSuppliers");
+
+    build(projectDir);
+    Map<String, FileTime> before = getGeneratedFiles(generatedPath);
+    assertTrue(before.containsKey("Pump_BeanSuppliers.java"));
+    assertTrue(before.containsKey("Valve_BeanSuppliers.java"));
+    assertEquals(Files.readAllLines(servicePath), services);
+
+    Files.writeString(sourcePath.resolve("Pump.java"), String.format(COMPONENT, "Pump", "pump2"));
+    BuildResult result = build(projectDir);
+    Map<String, FileTime> after = getGeneratedFiles(generatedPath);
+
+    assertFalse(result.getOutput().contains("Full recompilation is required"));
+    assertEquals(after.keySet(), before.keySet());
+    // the aggregating service processor still lists the supplier of the untouched component
+    assertEquals(Files.readAllLines(servicePath), services);
+    assertTrue(
+        Files.readString(generatedPath.resolve("Pump_BeanSuppliers.java"))
+            .contains("io.nozdormu.inject.incremental.Pump"));
+    assertTrue(
+        Files.exists(
+            projectDir.resolve(
+                "build/classes/java/main/io/nozdormu/inject/incremental/"
+                    + "Valve_BeanSuppliers.class")));
+    after.forEach(
+        (name, modified) -> {
+          if (name.startsWith("Valve_")) {
+            assertEquals(modified, before.get(name));
+          } else {
+            assertNotEquals(modified, before.get(name));
+          }
+        });
+  }
+
+  private String getClassPath(Predicate<Path> filter) {
+    return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+        .filter(path -> filter.test(Paths.get(path)))
+        .map(path -> "'" + path.replace('\\', '/') + "'")
+        .collect(Collectors.joining(", "));
+  }
+
+  private BuildResult build(Path projectDir) {
+    return GradleRunner.create()
+        .withProjectDir(projectDir.toFile())
+        .withArguments("compileJava", "--info")
+        .build();
+  }
+
+  private Map<String, FileTime> getGeneratedFiles(Path generatedPath) throws IOException {
+    try (Stream<Path> stream = Files.list(generatedPath)) {
+      return stream.collect(
+          Collectors.toMap(
+              path -> path.getFileName().toString(),
+              path -> {
+                try {
+                  return Files.getLastModifiedTime(path);
+                } catch (IOException e) {
+                  throw new RuntimeException(e);
+                }
+              }));
+    }
+  }
+}
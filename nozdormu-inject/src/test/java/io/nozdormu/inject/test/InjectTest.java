@@ -1,13 +1,53 @@
 package io.nozdormu.inject.test;
 
+import io.nozdormu.inject.processor.InjectProcessor;
+import io.nozdormu.inject.test.beans.AutoParts;
 import io.nozdormu.inject.test.beans.Car;
+import io.nozdormu.inject.test.beans.Dealer;
+import io.nozdormu.inject.test.beans.Garage;
+import io.nozdormu.inject.test.beans.Inspector;
+import io.nozdormu.inject.test.beans.Recall;
 import io.nozdormu.inject.test.beans.RepairShop;
+import io.nozdormu.inject.test.beans.Workshop;
+import io.nozdormu.inject.test.context.TransactionRegistry;
 import io.nozdormu.spi.context.BeanContext;
+import io.nozdormu.spi.event.AsyncDelivery;
+import io.nozdormu.spi.event.RingBufferEventDispatcher;
+import io.nozdormu.spi.event.ScopeEventAsyncObserver;
+import io.nozdormu.spi.event.ScopeEventPublisher;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.transaction.Status;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.util.context.Context;
 
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.nozdormu.inject.test.context.RequestBeanScoped.REQUEST_ID;
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,4 +86,378 @@ public class InjectTest {
         () -> assertEquals(repairShop.getEngineList().get(0).getName(), "V8 Engine"),
         () -> assertEquals(repairShop.getEngineList().get(1).getName(), "V12 Engine"));
   }
+
+  @Test
+  void testAsyncProduces() {
+    RepairShop repairShop = BeanContext.get(RepairShop.class);
+    Mono<Garage> garage = BeanContext.getMono(Garage.class);
+    StepVerifier.create(Mono.zip(repairShop.getGarage(), garage))
+        .assertNext(tuple -> assertSame(tuple.getT1(), tuple.getT2()))
+        .expectComplete()
+        .verify();
+    assertEquals(Garage.getCreated(), 1);
+  }
+
+  @Test
+  void testAsyncFactory() {
+    StepVerifier.create(BeanContext.getMono(Workshop.class))
+        .expectErrorMessage("workshop closed")
+        .verify();
+    Workshop workshop = BeanContext.getMono(Workshop.class).block();
+    assertNotNull(workshop);
+    assertEquals(workshop.getName(), "north");
+    StepVerifier.create(BeanContext.getMono(Workshop.class))
+        .assertNext(value -> assertSame(value, workshop))
+        .expectComplete()
+        .verify();
+    assertEquals(Workshop.getAttempts(), 2);
+  }
+
+  @Test
+  void testScopeEvent() {
+    AutoParts autoParts = BeanContext.get(AutoParts.class);
+    autoParts.getReceived().clear();
+    StepVerifier.create(ScopeEventPublisher.initialized(ApplicationScoped.class))
+        .expectComplete()
+        .verify();
+    assertEquals(autoParts.getReceived().size(), 4);
+    assertTrue(
+        autoParts.getReceived().containsAll(List.of("event1", "event2", "event3", "event4")));
+  }
+
+  @Test
+  void testReactiveObserverFire() {
+    Dealer dealer = BeanContext.get(Dealer.class);
+    Inspector inspector = BeanContext.get(Inspector.class);
+    dealer.getRecallEvent().fire(new Recall("X9"));
+    assertTrue(inspector.getInspections().contains("inspected X9"));
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> dealer.getRecallEvent().fire(new Recall("defect X9")));
+    assertEquals("failed defect X9", exception.getMessage());
+  }
+
+  @Test
+  void testEvent() {
+    Dealer dealer = BeanContext.get(Dealer.class);
+    dealer.getNotices().clear();
+    dealer.getRecallEvent().fire(new Recall("X5"));
+    assertEquals(dealer.getNotices(), List.of("recall X5"));
+
+    dealer.getUrgentRecallEvent().fire(new Recall("X6"));
+    assertEquals(dealer.getNotices().size(), 3);
+    assertTrue(dealer.getNotices().containsAll(List.of("recall X6", "urgent X6")));
+
+    StepVerifier.create(
+            Mono.fromCompletionStage(dealer.getRecallEvent().fireAsync(new Recall("X7"))))
+        .assertNext(recall -> assertEquals(recall.getModel(), "X7"))
+        .expectComplete()
+        .verify();
+    assertEquals(dealer.getNotices().get(3), "async X7");
+
+    dealer
+        .getRecallEvent()
+        .fireAsync(
+            new Recall("X8"),
+            NotificationOptions.of(
+                AsyncDelivery.NOTIFICATION_OPTION,
+                AsyncDelivery.ordered().timeout(Duration.ofSeconds(1))))
+        .toCompletableFuture()
+        .join();
+    assertEquals(dealer.getNotices().get(4), "async X8");
+
+    CompletionException completionException =
+        assertThrows(
+            CompletionException.class,
+            () ->
+                dealer
+                    .getRecallEvent()
+                    .select(NamedLiteral.of("rejected"))
+                    .fireAsync(new Recall("X9"))
+                    .toCompletableFuture()
+                    .join());
+    assertEquals(AsyncDelivery.getDefault().getMode(), AsyncDelivery.Mode.ORDERED);
+    // the default ordered delivery fails with the observer error itself
+    assertFalse(completionException.getMessage().contains("observer(s) failed"));
+    assertEquals(completionException.getCause().getMessage(), "rejected X9");
+    assertEquals(completionException.getSuppressed().length, 0);
+    assertEquals(dealer.getNotices().get(5), "async X9");
+
+    CompletionException aggregated =
+        assertThrows(
+            CompletionException.class,
+            () ->
+                dealer
+                    .getRecallEvent()
+                    .select(NamedLiteral.of("rejected"))
+                    .fireAsync(
+                        new Recall("X10"),
+                        NotificationOptions.of(
+                            AsyncDelivery.NOTIFICATION_OPTION, AsyncDelivery.parallel(2)))
+                    .toCompletableFuture()
+                    .join());
+    assertTrue(aggregated.getMessage().startsWith("1 observer(s) failed"));
+    assertEquals(aggregated.getCause().getMessage(), "rejected X10");
+    assertEquals(dealer.getNotices().get(6), "async X10");
+  }
+
+  @Test
+  void testRingBufferEventDispatcher() {
+    AtomicInteger received = new AtomicInteger();
+    ScopeEventAsyncObserver[] observers = {
+      new ScopeEventAsyncObserver() {
+        @Override
+        public void onEvent(Object event) {
+          received.incrementAndGet();
+        }
+      },
+      new ScopeEventAsyncObserver() {
+        @Override
+        public Mono<Void> onEventAsync(Object event) {
+          return Mono.fromRunnable(received::incrementAndGet);
+        }
+
+        @Override
+        public boolean isReactive() {
+          return true;
+        }
+      }
+    };
+    ScopeEventAsyncObserver[] failingObservers = {
+      new ScopeEventAsyncObserver() {
+        @Override
+        public void onEvent(Object event) {
+          throw new IllegalStateException("rejected " + event);
+        }
+      }
+    };
+    try (RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(8, RingBufferEventDispatcher.WaitStrategy.yielding())) {
+      StepVerifier.create(
+              Flux.range(0, 100).flatMap(index -> dispatcher.deliver(observers, index)).then())
+          .expectComplete()
+          .verify();
+      assertEquals(received.get(), 200);
+
+      StepVerifier.create(dispatcher.deliver(failingObservers, "X10"))
+          .expectErrorMatches(
+              error ->
+                  error instanceof CompletionException
+                      && error.getCause() instanceof IllegalStateException
+                      && error.getSuppressed().length == 0)
+          .verify();
+
+      StepVerifier.create(
+              dispatcher.deliver(
+                  new ScopeEventAsyncObserver[] {failingObservers[0], failingObservers[0]},
+                  "X11"))
+          .expectErrorMatches(
+              error ->
+                  error instanceof CompletionException
+                      && error.getSuppressed().length == 1
+                      && error.getSuppressed()[0] != error.getCause())
+          .verify();
+
+      StepVerifier.create(
+              dispatcher
+                  .deliver(observers, "X12")
+                  .then(Mono.fromCallable(() -> Thread.currentThread().getName())))
+          .assertNext(threadName -> assertNotEquals(threadName, "nozdormu-event-ring"))
+          .expectComplete()
+          .verify();
+    }
+
+    AtomicInteger nested = new AtomicInteger();
+    ScopeEventAsyncObserver[] nestedObservers = {
+      new ScopeEventAsyncObserver() {
+        @Override
+        public void onEvent(Object event) {
+          nested.incrementAndGet();
+        }
+      }
+    };
+    try (RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(2, RingBufferEventDispatcher.WaitStrategy.yielding())) {
+      ScopeEventAsyncObserver[] republishingObservers = {
+        new ScopeEventAsyncObserver() {
+          @Override
+          public void onEvent(Object event) {
+            for (int index = 0; index < 8; index++) {
+              dispatcher.publish(nestedObservers, index);
+            }
+          }
+        }
+      };
+      StepVerifier.create(dispatcher.deliver(republishingObservers, "X13"))
+          .expectComplete()
+          .verify(Duration.ofSeconds(1));
+      StepVerifier.create(
+              Flux.interval(Duration.ofMillis(10)).filter(tick -> nested.get() == 8).next())
+          .expectNextCount(1)
+          .expectComplete()
+          .verify(Duration.ofSeconds(1));
+    }
+  }
+
+  @Test
+  void testRingBufferEventDispatcherClose() throws InterruptedException {
+    AtomicInteger received = new AtomicInteger();
+    AtomicInteger published = new AtomicInteger();
+    ScopeEventAsyncObserver[] observers = {
+      new ScopeEventAsyncObserver() {
+        @Override
+        public void onEvent(Object event) {
+          received.incrementAndGet();
+        }
+      }
+    };
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(4, RingBufferEventDispatcher.WaitStrategy.blocking());
+    CountDownLatch started = new CountDownLatch(4);
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    for (int thread = 0; thread < 4; thread++) {
+      executorService.execute(
+          () -> {
+            started.countDown();
+            for (int index = 0; ; index++) {
+              try {
+                dispatcher.publish(observers, index);
+              } catch (IllegalStateException e) {
+                return;
+              }
+              published.incrementAndGet();
+            }
+          });
+    }
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    while (published.get() < 100) {
+      Thread.onSpinWait();
+    }
+    // producers keep a full ring of 4 busy while it closes
+    dispatcher.close();
+    executorService.shutdown();
+    assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+    // every publish that returned was delivered before close returned
+    assertEquals(received.get(), published.get());
+  }
+
+  @Test
+  void testTransactionalEvent() {
+    Dealer dealer = BeanContext.get(Dealer.class);
+    TransactionRegistry transactionRegistry = BeanContext.get(TransactionRegistry.class);
+    Event<Recall> auditedRecallEvent = dealer.getRecallEvent().select(NamedLiteral.of("audited"));
+
+    dealer.getNotices().clear();
+    transactionRegistry.begin();
+    auditedRecallEvent.fire(new Recall("T1"));
+    auditedRecallEvent.fire(new Recall("T2"));
+    assertEquals(dealer.getNotices(), List.of("recall T1", "recall T2"));
+    transactionRegistry.commit();
+    assertEquals(
+        dealer.getNotices(), List.of("recall T1", "recall T2", "audited T1", "audited T2"));
+
+    dealer.getNotices().clear();
+    transactionRegistry.begin();
+    auditedRecallEvent.fire(new Recall("T3"));
+    transactionRegistry.rollback();
+    assertEquals(dealer.getNotices(), List.of("recall T3"));
+
+    dealer.getNotices().clear();
+    auditedRecallEvent.fire(new Recall("T4"));
+    assertEquals(dealer.getNotices(), List.of("recall T4", "audited T4"));
+
+    dealer.getNotices().clear();
+    transactionRegistry.begin();
+    dealer.getRecallEvent().select(NamedLiteral.of("vetoed")).fire(new Recall("T5"));
+    auditedRecallEvent.fire(new Recall("T6"));
+    IllegalStateException vetoed =
+        assertThrows(IllegalStateException.class, transactionRegistry::commit);
+    assertEquals(vetoed.getMessage(), "vetoed T5");
+    assertEquals(dealer.getNotices(), List.of("recall T5", "recall T6"));
+    assertEquals(transactionRegistry.getTransactionStatus(), Status.STATUS_NO_TRANSACTION);
+  }
+
+  @Test
+  void testAsyncBeanInjected(@TempDir Path projectPath) throws IOException {
+    Path sourcePath = projectPath.resolve("src/main/java/io/nozdormu/inject/check");
+    Path generatedSourcePath = projectPath.resolve("build/generated/sources");
+    Files.createDirectories(sourcePath);
+    Files.createDirectories(generatedSourcePath);
+    Path gauge =
+        Files.writeString(
+            sourcePath.resolve("Gauge.java"),
+            String.join(
+                System.lineSeparator(),
+                "package io.nozdormu.inject.check;",
+                "",
+                "public class Gauge {",
+                "}"));
+    Path station =
+        Files.writeString(
+            sourcePath.resolve("Station.java"),
+            String.join(
+                System.lineSeparator(),
+                "package io.nozdormu.inject.check;",
+                "",
+                "import jakarta.enterprise.context.ApplicationScoped;",
+                "import jakarta.enterprise.inject.Produces;",
+                "import reactor.core.publisher.Mono;",
+                "",
+                "@ApplicationScoped",
+                "public class Station {",
+                "",
+                "  @Produces",
+                "  public Mono<Gauge> gauge() {",
+                "    return Mono.just(new Gauge());",
+                "  }",
+                "}"));
+    Path meter =
+        Files.writeString(
+            sourcePath.resolve("Meter.java"),
+            String.join(
+                System.lineSeparator(),
+                "package io.nozdormu.inject.check;",
+                "",
+                "import jakarta.enterprise.context.ApplicationScoped;",
+                "import jakarta.inject.Inject;",
+                "",
+                "@ApplicationScoped",
+                "public class Meter {",
+                "",
+                "  @Inject",
+                "  Gauge gauge;",
+                "}"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of(
+                  "-proc:only",
+                  "-classpath",
+                  System.getProperty("java.class.path"),
+                  "-s",
+                  generatedSourcePath.toString()),
+              null,
+              fileManager.getJavaFileObjects(gauge, station, meter));
+      task.setProcessors(List.of(new InjectProcessor()));
+      assertFalse(task.call());
+    }
+    List<Diagnostic<? extends JavaFileObject>> errors =
+        diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .collect(Collectors.toList());
+    assertEquals(errors.size(), 1);
+    assertTrue(errors.get(0).getMessage(null).contains("must inject Mono<"));
+    assertTrue(errors.get(0).getSource().getName().endsWith("Meter.java"));
+    try (Stream<Path> generated = Files.walk(generatedSourcePath)) {
+      assertTrue(generated.noneMatch(Files::isRegularFile));
+    }
+  }
 }
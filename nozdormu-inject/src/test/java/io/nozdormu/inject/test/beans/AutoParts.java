@@ -8,24 +8,33 @@ import jakarta.enterprise.event.ObservesAsync;
 import jakarta.enterprise.inject.Produces;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 @ApplicationScoped
 public class AutoParts {
 
+  private final List<String> received = new CopyOnWriteArrayList<>();
+
   public void event1(@Initialized(ApplicationScoped.class) @Observes Object event) {
     System.out.println("Broadcast received event1: " + event);
+    received.add("event1");
   }
 
   public Mono<Void> event2(@Initialized(ApplicationScoped.class) @Observes Object event) {
     System.out.println("Broadcast received event1: " + event);
+    received.add("event2");
     return Mono.empty();
   }
 
   public void event3(@Initialized(ApplicationScoped.class) @ObservesAsync Object event) {
     System.out.println("Broadcast received event1: " + event);
+    received.add("event3");
   }
 
   public Mono<Void> event4(@Initialized(ApplicationScoped.class) @ObservesAsync Object event) {
     System.out.println("Broadcast received event1: " + event);
+    received.add("event4");
     return Mono.empty();
   }
 
@@ -41,9 +50,19 @@ public class AutoParts {
     return new Wheel(brake);
   }
 
+  @ApplicationScoped
+  @Produces
+  public Mono<Garage> garage() {
+    return Mono.fromSupplier(Garage::new);
+  }
+
   @RequestScoped
   @Produces
   public Navigation navigation() {
     return new Navigation();
   }
+
+  public List<String> getReceived() {
+    return received;
+  }
 }
@@ -0,0 +1,68 @@
+package io.nozdormu.inject.test.beans;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@ApplicationScoped
+public class Dealer {
+
+  private final Event<Recall> recallEvent;
+
+  private final Event<Recall> urgentRecallEvent;
+
+  private final List<String> notices = new CopyOnWriteArrayList<>();
+
+  @Inject
+  public Dealer(Event<Recall> recallEvent, @Named("urgent") Event<Recall> urgentRecallEvent) {
+    this.recallEvent = recallEvent;
+    this.urgentRecallEvent = urgentRecallEvent;
+  }
+
+  public void recall(@Observes Recall recall) {
+    notices.add("recall " + recall.getModel());
+  }
+
+  public void urgentRecall(@Named("urgent") @Observes Recall recall) {
+    notices.add("urgent " + recall.getModel());
+  }
+
+  public void auditRecall(
+      @Named("audited") @Observes(during = TransactionPhase.AFTER_SUCCESS) Recall recall) {
+    notices.add("audited " + recall.getModel());
+  }
+
+  public void vetoRecall(
+      @Named("vetoed") @Observes(during = TransactionPhase.BEFORE_COMPLETION) Recall recall) {
+    throw new IllegalStateException("vetoed " + recall.getModel());
+  }
+
+  public Mono<Void> recallAsync(@ObservesAsync Recall recall) {
+    notices.add("async " + recall.getModel());
+    return Mono.empty();
+  }
+
+  public Mono<Void> rejectRecall(@Named("rejected") @ObservesAsync Recall recall) {
+    return Mono.error(new IllegalStateException("rejected " + recall.getModel()));
+  }
+
+  public Event<Recall> getRecallEvent() {
+    return recallEvent;
+  }
+
+  public Event<Recall> getUrgentRecallEvent() {
+    return urgentRecallEvent;
+  }
+
+  public List<String> getNotices() {
+    return notices;
+  }
+}
@@ -0,0 +1,23 @@
+package io.nozdormu.inject.test.beans;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Garage {
+
+  private static final AtomicInteger CREATED = new AtomicInteger();
+
+  private final String name;
+
+  public Garage() {
+    name = "central";
+    CREATED.incrementAndGet();
+  }
+
+  public static int getCreated() {
+    return CREATED.get();
+  }
+
+  public String getName() {
+    return name;
+  }
+}
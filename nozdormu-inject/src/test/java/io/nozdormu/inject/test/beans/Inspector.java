@@ -0,0 +1,28 @@
+package io.nozdormu.inject.test.beans;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@ApplicationScoped
+public class Inspector {
+
+  private final List<String> inspections = new CopyOnWriteArrayList<>();
+
+  public Mono<Void> inspect(@Observes Recall recall) {
+    if (recall.getModel().startsWith("defect")) {
+      return Mono.error(new IllegalStateException("failed " + recall.getModel()));
+    }
+    return Mono.delay(Duration.ofMillis(50))
+        .doOnNext(tick -> inspections.add("inspected " + recall.getModel()))
+        .then();
+  }
+
+  public List<String> getInspections() {
+    return inspections;
+  }
+}
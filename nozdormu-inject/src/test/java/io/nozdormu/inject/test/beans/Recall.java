@@ -0,0 +1,14 @@
+package io.nozdormu.inject.test.beans;
+
+public class Recall {
+
+  private final String model;
+
+  public Recall(String model) {
+    this.model = model;
+  }
+
+  public String getModel() {
+    return model;
+  }
+}
@@ -5,6 +5,7 @@ import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,14 +19,18 @@ public class RepairShop {
 
   private final List<IEngine> engineList;
 
+  private final Mono<Garage> garage;
+
   @Inject
   public RepairShop(
       @Default IEngine defaultEngine,
       @Named("v12") IEngine v12Engine,
-      Instance<IEngine> engineInstance) {
+      Instance<IEngine> engineInstance,
+      Mono<Garage> garage) {
     this.defaultEngine = defaultEngine;
     this.v12Engine = v12Engine;
     this.engineList = engineInstance.stream().collect(Collectors.toList());
+    this.garage = garage;
   }
 
   public IEngine getDefaultEngine() {
@@ -39,4 +44,8 @@ public class RepairShop {
   public List<IEngine> getEngineList() {
     return engineList;
   }
+
+  public Mono<Garage> getGarage() {
+    return garage;
+  }
 }
@@ -0,0 +1,36 @@
+package io.nozdormu.inject.test.beans;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@ApplicationScoped
+public class Workshop {
+
+  private static final AtomicInteger ATTEMPTS = new AtomicInteger();
+
+  private final String name;
+
+  private Workshop(String name) {
+    this.name = name;
+  }
+
+  @Produces
+  public static Mono<Workshop> open() {
+    return Mono.defer(
+        () ->
+            ATTEMPTS.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("workshop closed"))
+                : Mono.just(new Workshop("north")));
+  }
+
+  public static int getAttempts() {
+    return ATTEMPTS.get();
+  }
+
+  public String getName() {
+    return name;
+  }
+}
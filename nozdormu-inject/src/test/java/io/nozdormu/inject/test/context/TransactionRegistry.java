@@ -0,0 +1,89 @@
+package io.nozdormu.inject.test.context;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+public class TransactionRegistry implements TransactionSynchronizationRegistry {
+
+  private final ThreadLocal<Transaction> transaction = new ThreadLocal<>();
+
+  public void begin() {
+    transaction.set(new Transaction());
+  }
+
+  public void commit() {
+    Transaction current = transaction.get();
+    try {
+      current.synchronizations.forEach(Synchronization::beforeCompletion);
+    } catch (RuntimeException e) {
+      complete(current, Status.STATUS_ROLLEDBACK);
+      throw e;
+    }
+    complete(current, Status.STATUS_COMMITTED);
+  }
+
+  public void rollback() {
+    complete(transaction.get(), Status.STATUS_ROLLEDBACK);
+  }
+
+  private void complete(Transaction current, int status) {
+    transaction.remove();
+    current.synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+  }
+
+  @Override
+  public Object getTransactionKey() {
+    return transaction.get();
+  }
+
+  @Override
+  public void putResource(Object key, Object value) {
+    getActive().resources.put(key, value);
+  }
+
+  @Override
+  public Object getResource(Object key) {
+    return getActive().resources.get(key);
+  }
+
+  @Override
+  public void registerInterposedSynchronization(Synchronization sync) {
+    getActive().synchronizations.add(sync);
+  }
+
+  @Override
+  public int getTransactionStatus() {
+    return transaction.get() == null ? Status.STATUS_NO_TRANSACTION : Status.STATUS_ACTIVE;
+  }
+
+  @Override
+  public void setRollbackOnly() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean getRollbackOnly() {
+    return false;
+  }
+
+  private Transaction getActive() {
+    Transaction current = transaction.get();
+    if (current == null) {
+      throw new IllegalStateException("no active transaction");
+    }
+    return current;
+  }
+
+  private static class Transaction {
+    private final Map<Object, Object> resources = new HashMap<>();
+    private final List<Synchronization> synchronizations = new ArrayList<>();
+  }
+}
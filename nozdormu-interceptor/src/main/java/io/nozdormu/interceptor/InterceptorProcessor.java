@@ -49,9 +49,23 @@ public class InterceptorProcessor extends AbstractProcessor {
 
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      processorManager.release();
+      return false;
+    }
     if (annotations.isEmpty()) {
       return false;
     }
+    try {
+      return processRound(roundEnv);
+    } catch (RuntimeException | Error e) {
+      // an aborted compilation never reaches processingOver
+      processorManager.release();
+      throw e;
+    }
+  }
+
+  private boolean processRound(RoundEnvironment roundEnv) {
     List<TypeElement> interceptorList =
         roundEnv.getElementsAnnotatedWith(Interceptor.class).stream()
             .filter(element -> element.getKind().isClass())
@@ -75,13 +89,14 @@ public class InterceptorProcessor extends AbstractProcessor {
           if (hasAroundInvoke) {
             buildInvokeInterceptor(compilationUnit)
                 .forEach(
-                    invokeCompilationUnit -> processorManager.writeToFiler(invokeCompilationUnit));
+                    invokeCompilationUnit ->
+                        processorManager.writeToFiler(invokeCompilationUnit, typeElement));
           }
           if (hasAroundConstruct) {
             buildConstructInterceptor(compilationUnit)
                 .forEach(
                     constructCompilationUnit ->
-                        processorManager.writeToFiler(constructCompilationUnit));
+                        processorManager.writeToFiler(constructCompilationUnit, typeElement));
           }
         });
     return false;
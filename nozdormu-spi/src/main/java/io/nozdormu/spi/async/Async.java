@@ -1,10 +1,18 @@
 package io.nozdormu.spi.async;
 
 import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface Async {
   String defaultIfEmpty() default "";
+
+  long timeout() default 0;
+
+  TimeUnit timeoutUnit() default TimeUnit.MILLISECONDS;
+
+  /** one of boundedElastic, parallel, single, immediate */
+  String scheduler() default "";
 }
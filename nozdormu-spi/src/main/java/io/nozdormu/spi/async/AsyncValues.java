@@ -0,0 +1,75 @@
+package io.nozdormu.spi.async;
+
+import reactor.core.publisher.Mono;
+
+@SuppressWarnings("unchecked")
+public final class AsyncValues {
+
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 127;
+  private static final Mono<Boolean> TRUE = Mono.just(Boolean.TRUE);
+  private static final Mono<Boolean> FALSE = Mono.just(Boolean.FALSE);
+  private static final Mono<Integer>[] INTEGER_CACHE = new Mono[CACHE_HIGH - CACHE_LOW + 1];
+  private static final Mono<Long>[] LONG_CACHE = new Mono[CACHE_HIGH - CACHE_LOW + 1];
+  private static final Mono<Short>[] SHORT_CACHE = new Mono[CACHE_HIGH - CACHE_LOW + 1];
+  private static final Mono<Byte>[] BYTE_CACHE = new Mono[CACHE_HIGH - CACHE_LOW + 1];
+  private static final Mono<Character>[] CHARACTER_CACHE = new Mono[CACHE_HIGH + 1];
+
+  static {
+    for (int i = CACHE_LOW; i <= CACHE_HIGH; i++) {
+      INTEGER_CACHE[i - CACHE_LOW] = Mono.just(i);
+      LONG_CACHE[i - CACHE_LOW] = Mono.just((long) i);
+      SHORT_CACHE[i - CACHE_LOW] = Mono.just((short) i);
+      BYTE_CACHE[i - CACHE_LOW] = Mono.just((byte) i);
+    }
+    for (int i = 0; i <= CACHE_HIGH; i++) {
+      CHARACTER_CACHE[i] = Mono.just((char) i);
+    }
+  }
+
+  private AsyncValues() {}
+
+  public static Mono<Boolean> just(boolean value) {
+    return value ? TRUE : FALSE;
+  }
+
+  public static Mono<Integer> just(int value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return INTEGER_CACHE[value - CACHE_LOW];
+    }
+    return Mono.just(value);
+  }
+
+  public static Mono<Long> just(long value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return LONG_CACHE[(int) value - CACHE_LOW];
+    }
+    return Mono.just(value);
+  }
+
+  public static Mono<Short> just(short value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return SHORT_CACHE[value - CACHE_LOW];
+    }
+    return Mono.just(value);
+  }
+
+  public static Mono<Byte> just(byte value) {
+    return BYTE_CACHE[value - CACHE_LOW];
+  }
+
+  public static Mono<Character> just(char value) {
+    if (value <= CACHE_HIGH) {
+      return CHARACTER_CACHE[value];
+    }
+    return Mono.just(value);
+  }
+
+  public static Mono<Float> just(float value) {
+    return Mono.just(value);
+  }
+
+  public static Mono<Double> just(double value) {
+    return Mono.just(value);
+  }
+}
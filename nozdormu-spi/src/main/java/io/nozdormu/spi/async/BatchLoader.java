@@ -0,0 +1,118 @@
+package io.nozdormu.spi.async;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public final class BatchLoader<K, V> {
+
+  public static final int DEFAULT_MAX_SIZE = 100;
+  public static final long DEFAULT_MAX_DELAY = 10;
+
+  private final int maxSize;
+  private final long maxDelay;
+  private final Function<List<K>, Mono<Map<K, V>>> bulkLoader;
+  private final Scheduler scheduler;
+  private Map<K, List<MonoSink<V>>> pending = new LinkedHashMap<>();
+  private Disposable scheduledFlush;
+
+  public BatchLoader(int maxSize, long maxDelay, Function<List<K>, Mono<Map<K, V>>> bulkLoader) {
+    this(maxSize, maxDelay, bulkLoader, Schedulers.parallel());
+  }
+
+  public BatchLoader(
+      int maxSize,
+      long maxDelay,
+      Function<List<K>, Mono<Map<K, V>>> bulkLoader,
+      Scheduler scheduler) {
+    this.maxSize = Math.max(1, maxSize);
+    this.maxDelay = Math.max(0, maxDelay);
+    this.bulkLoader = bulkLoader;
+    this.scheduler = scheduler;
+  }
+
+  public Mono<V> load(K key) {
+    return Mono.create(
+        sink -> {
+          enqueue(key, sink);
+          sink.onCancel(() -> cancel(key, sink));
+        });
+  }
+
+  public void flush() {
+    Map<K, List<MonoSink<V>>> batch;
+    synchronized (this) {
+      batch = drain();
+    }
+    dispatch(batch);
+  }
+
+  private void enqueue(K key, MonoSink<V> sink) {
+    Map<K, List<MonoSink<V>>> batch = null;
+    synchronized (this) {
+      boolean first = pending.isEmpty();
+      pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(sink);
+      if (pending.size() >= maxSize) {
+        batch = drain();
+      } else if (first) {
+        scheduledFlush = scheduler.schedule(this::flush, maxDelay, TimeUnit.MILLISECONDS);
+      }
+    }
+    if (batch != null) {
+      dispatch(batch);
+    }
+  }
+
+  // a cancelled caller leaves the batch, a batch nobody waits for is not loaded
+  private synchronized void cancel(K key, MonoSink<V> sink) {
+    List<MonoSink<V>> sinks = pending.get(key);
+    if (sinks == null || !sinks.remove(sink) || !sinks.isEmpty()) {
+      return;
+    }
+    pending.remove(key);
+    if (pending.isEmpty() && scheduledFlush != null) {
+      scheduledFlush.dispose();
+      scheduledFlush = null;
+    }
+  }
+
+  private Map<K, List<MonoSink<V>>> drain() {
+    Map<K, List<MonoSink<V>>> batch = pending;
+    pending = new LinkedHashMap<>();
+    if (scheduledFlush != null) {
+      scheduledFlush.dispose();
+      scheduledFlush = null;
+    }
+    return batch;
+  }
+
+  private void dispatch(Map<K, List<MonoSink<V>>> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    Mono.defer(() -> bulkLoader.apply(new ArrayList<>(batch.keySet())))
+        .defaultIfEmpty(Collections.emptyMap())
+        .subscribe(
+            result ->
+                batch.forEach(
+                    (key, sinks) -> {
+                      V value = result.get(key);
+                      if (value == null) {
+                        sinks.forEach(MonoSink::success);
+                      } else {
+                        sinks.forEach(sink -> sink.success(value));
+                      }
+                    }),
+            error -> batch.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error))));
+  }
+}
@@ -0,0 +1,16 @@
+package io.nozdormu.spi.async;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Batched {
+  int maxSize() default BatchLoader.DEFAULT_MAX_SIZE;
+
+  /** milliseconds */
+  long maxDelay() default BatchLoader.DEFAULT_MAX_DELAY;
+
+  /** sibling method taking List&lt;K&gt; and returning Map&lt;K, V&gt; or Mono&lt;Map&lt;K, V&gt;&gt; */
+  String bulkMethod() default "";
+}
@@ -1,5 +1,7 @@
 package io.nozdormu.spi.context;
 
+import io.nozdormu.spi.event.EventImpl;
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Provider;
 import reactor.core.publisher.Mono;
@@ -90,6 +92,15 @@ public class BeanContext {
     return new InstanceImpl<>(getImplSupplierMap(qualifiers));
   }
 
+  public static <T> Event<T> getEvent(Class<T> eventClass) {
+    return getEvent(eventClass, Map.of());
+  }
+
+  public static <T> Event<T> getEvent(
+      Class<T> eventClass, Map<String, Map<String, Object>> qualifiers) {
+    return new EventImpl<>(eventClass, qualifiers);
+  }
+
   public static <T> Optional<T> getOptional(Class<T> beanClass) {
     return getOptional(beanClass, Map.of());
   }
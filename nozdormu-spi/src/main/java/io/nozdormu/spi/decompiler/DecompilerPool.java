@@ -0,0 +1,99 @@
+package io.nozdormu.spi.decompiler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.jar.JarFile;
+
+/**
+ * State of one {@link TypeElementDecompiler}: one open jar per code source and single flight
+ * decompilation, so concurrent lookups of types from one jar run the decompiler once while
+ * different jars are decompiled in parallel. The pool belongs to the decompiler of one build and
+ * is closed by {@link TypeElementDecompiler#release()}.
+ */
+public final class DecompilerPool implements Closeable {
+
+  private final Map<Path, JarFile> jarFiles = new HashMap<>();
+  private final Map<Object, CompletableFuture<Object>> results = new ConcurrentHashMap<>();
+
+  public static Optional<Path> getCodeSource(Class<?> type) {
+    CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+    if (codeSource == null || codeSource.getLocation() == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Paths.get(codeSource.getLocation().toURI()));
+    } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+      return Optional.empty();
+    }
+  }
+
+  /** the jar stays open until the pool is closed, type loaders keep reading it lazily */
+  public JarFile getJarFile(Path path) throws IOException {
+    Path key = path.toAbsolutePath().normalize();
+    synchronized (jarFiles) {
+      JarFile jarFile = jarFiles.get(key);
+      if (jarFile == null) {
+        jarFile = new JarFile(key.toFile());
+        jarFiles.put(key, jarFile);
+      }
+      return jarFile;
+    }
+  }
+
+  /** closes the jars and forgets the results, the pool can be used again afterwards */
+  @Override
+  public void close() {
+    synchronized (jarFiles) {
+      for (JarFile jarFile : jarFiles.values()) {
+        try {
+          jarFile.close();
+        } catch (IOException ignore) {
+          // nothing is read from it anymore
+        }
+      }
+      jarFiles.clear();
+      results.clear();
+    }
+  }
+
+  /**
+   * Runs {@code supplier} once per key; concurrent callers wait for the running computation and
+   * later callers get its result. A failed computation is forgotten so it can be retried.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T computeOnce(Object key, Supplier<T> supplier) {
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> running = results.putIfAbsent(key, future);
+    if (running == null) {
+      try {
+        T result = supplier.get();
+        future.complete(result);
+        return result;
+      } catch (RuntimeException | Error e) {
+        results.remove(key, future);
+        future.completeExceptionally(e);
+        throw e;
+      }
+    }
+    try {
+      return (T) running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
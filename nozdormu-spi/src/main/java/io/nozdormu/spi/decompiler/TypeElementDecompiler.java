@@ -15,4 +15,7 @@ public interface TypeElementDecompiler {
     }
     return Optional.empty();
   }
+
+  /** the compilation is over or aborted, open jars and decompiled results can be dropped */
+  default void release() {}
 }
@@ -11,7 +11,7 @@ public interface TypeElementDecompilerProvider {
 
   Logger logger = LoggerFactory.getLogger(TypeElementDecompilerProvider.class);
 
-  String DEFAULT_PROVIDER = "io.nozdormu.decompiler.ProcyonDecompiler";
+  String DEFAULT_PROVIDER = "io.nozdormu.decompiler.procyon.DecompilerProvider";
 
   TypeElementDecompiler create(ClassLoader classLoader);
 
@@ -12,12 +12,24 @@ public enum InjectionProcessErrorType {
   INSTANCE_TYPE_NOT_EXIST(-60645, "can't find type argument of instance"),
   MODULE_PROVIDERS_METHOD_NOT_EXIST(-60646, "can't find module class providers method of %s"),
   COMPONENT_GET_METHOD_NOT_EXIST(-60647, "can't find component class get method of %s"),
+  EVENT_TYPE_NOT_EXIST(-60648, "can't find type argument of event"),
   TYPE_ARGUMENT_NOT_EXIST(-60649, "can't find type argument"),
   ANNOTATION_NOT_EXIST(-60650, "annotation not exist in: %s"),
   VARIABLE_DECLARATOR_NOT_EXIST(-60651, "variable declarator not exist in: %s"),
+  ANNOTATION_VALUE_NOT_CONSTANT(-60652, "can't resolve %s of @%s on: %s"),
+  ASYNC_BEAN_INJECTED(-60653, "%s is produced as a Mono, %s must inject Mono<%s>"),
+
+  ASYNC_SCHEDULER_NOT_SUPPORTED(-60660, "unsupported @Async scheduler %s on: %s"),
+  BATCHED_METHOD_NOT_SUPPORTED(
+      -60661, "@Batched method must have one parameter and a return value: %s"),
+  BATCHED_BULK_METHOD_NOT_EXIST(-60662, "can't find bulk method of @Batched: %s"),
 
   CONFIG_PROPERTIES_PREFIX_NOT_EXIST(-60700, "prefix not exist in @ConfigProperties in: %s"),
   CONFIG_PROPERTY_NOT_EXIST(-60701, "@ConfigProperty not exist on: %s"),
+  CONFIG_PROPERTY_DEFAULT_VALUE_INVALID(
+      -60702, "invalid defaultValue %s of @ConfigProperty %s on: %s"),
+  CONFIG_PROPERTY_VALUE_NOT_EXIST(-60703, "config property %s not exist, required by: %s"),
+  CONFIG_PROPERTY_TYPE_NOT_SUPPORTED(-60704, "unsupported type %s of config field %s in: %s"),
 
   UNKNOWN(-60999, "unknown injection error");
 
@@ -0,0 +1,185 @@
+package io.nozdormu.spi.event;
+
+import io.nozdormu.spi.context.BeanContext;
+import org.eclipse.microprofile.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * How async observers are notified. Every observer is notified even if another one fails; ORDERED
+ * then fails with the first observer error as it is, PARALLEL with one CompletionException that
+ * carries all of them and DETACHED only logs them.
+ */
+public final class AsyncDelivery implements EventDispatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncDelivery.class);
+
+  public static final String MODE_PROPERTY = "nozdormu.event.delivery";
+  public static final String MAX_CONCURRENCY_PROPERTY = "nozdormu.event.delivery.max-concurrency";
+
+  public enum Mode {
+    ORDERED,
+    PARALLEL,
+    DETACHED
+  }
+
+  private final Mode mode;
+  private final int maxConcurrency;
+  private final Duration timeout;
+  private final Scheduler scheduler;
+
+  private AsyncDelivery(Mode mode, int maxConcurrency, Duration timeout, Scheduler scheduler) {
+    this.mode = mode;
+    this.maxConcurrency = maxConcurrency;
+    this.timeout = timeout;
+    this.scheduler = scheduler;
+  }
+
+  public static AsyncDelivery ordered() {
+    return new AsyncDelivery(Mode.ORDERED, 1, null, null);
+  }
+
+  public static AsyncDelivery parallel(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+    }
+    return new AsyncDelivery(Mode.PARALLEL, maxConcurrency, null, null);
+  }
+
+  public static AsyncDelivery detached() {
+    return detached(DetachedSchedulerHolder.INSTANCE);
+  }
+
+  public static AsyncDelivery detached(Scheduler scheduler) {
+    return new AsyncDelivery(Mode.DETACHED, Integer.MAX_VALUE, null, scheduler);
+  }
+
+  /** the delivery configured by {@value #MODE_PROPERTY}, read once, ORDERED if it is unset */
+  public static AsyncDelivery getDefault() {
+    return DefaultDeliveryHolder.INSTANCE;
+  }
+
+  public static AsyncDelivery of(Config config) {
+    Mode mode =
+        config
+            .getOptionalValue(MODE_PROPERTY, String.class)
+            .map(value -> Mode.valueOf(value.trim().toUpperCase()))
+            .orElse(Mode.ORDERED);
+    switch (mode) {
+      case PARALLEL:
+        return parallel(
+            config
+                .getOptionalValue(MAX_CONCURRENCY_PROPERTY, Integer.class)
+                .orElse(Integer.MAX_VALUE));
+      case DETACHED:
+        return detached();
+      default:
+        return ordered();
+    }
+  }
+
+  public AsyncDelivery timeout(Duration timeout) {
+    return new AsyncDelivery(mode, maxConcurrency, timeout, scheduler);
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  @Override
+  public Mono<Void> deliver(ScopeEventAsyncObserver[] observers, Object event) {
+    if (observers.length == 0) {
+      return Mono.empty();
+    }
+    if (mode == Mode.DETACHED) {
+      Flux.fromArray(observers)
+          .flatMap(observer -> notify(observer, event), maxConcurrency)
+          .subscribeOn(scheduler)
+          .subscribe(
+              null,
+              error -> logger.error("detached observer notification failed: {}", event, error));
+      return Mono.empty();
+    }
+    return Mono.defer(
+        () -> {
+          Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+          Flux<Void> notifications =
+              Flux.fromArray(observers)
+                  .map(
+                      observer ->
+                          notify(observer, event)
+                              .onErrorResume(
+                                  error -> {
+                                    errors.add(error);
+                                    return Mono.empty();
+                                  }))
+                  .as(
+                      monos ->
+                          mode == Mode.ORDERED
+                              ? monos.concatMap(mono -> mono)
+                              : monos.flatMap(mono -> mono, maxConcurrency));
+          return notifications.then(
+              Mono.defer(
+                  () -> {
+                    if (errors.isEmpty()) {
+                      return Mono.empty();
+                    }
+                    if (mode == Mode.ORDERED) {
+                      Throwable error = errors.poll();
+                      errors.forEach(
+                          other ->
+                              logger.error("async observer notification failed: {}", event, other));
+                      return Mono.error(error);
+                    }
+                    CompletionException completionException =
+                        new CompletionException(
+                            errors.size() + " observer(s) failed for event: " + event,
+                            errors.peek());
+                    errors.stream().skip(1).forEach(completionException::addSuppressed);
+                    return Mono.error(completionException);
+                  }));
+        });
+  }
+
+  private Mono<Void> notify(ScopeEventAsyncObserver observer, Object event) {
+    Mono<Void> notification = Mono.defer(() -> observer.onEventAsync(event));
+    if (timeout != null) {
+      notification = notification.timeout(timeout);
+    }
+    return notification;
+  }
+
+  private static class DefaultDeliveryHolder {
+    private static final AsyncDelivery INSTANCE =
+        BeanContext.getOptional(Config.class)
+            .map(AsyncDelivery::of)
+            .orElseGet(AsyncDelivery::ordered);
+  }
+
+  private static class DetachedSchedulerHolder {
+    private static final Scheduler INSTANCE =
+        Schedulers.newBoundedElastic(
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "nozdormu-event",
+            60,
+            true);
+  }
+}
@@ -0,0 +1,10 @@
+package io.nozdormu.spi.event;
+
+import reactor.core.publisher.Mono;
+
+public interface EventDispatcher {
+
+  String NOTIFICATION_OPTION = EventDispatcher.class.getName();
+
+  Mono<Void> deliver(ScopeEventAsyncObserver[] observers, Object event);
+}
@@ -0,0 +1,210 @@
+package io.nozdormu.spi.event;
+
+import io.nozdormu.spi.context.BeanContext;
+import io.nozdormu.spi.context.BeanSupplier;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.util.TypeLiteral;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.annotation.Annotation;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static io.nozdormu.spi.utils.QualifierUtil.containsAll;
+import static io.nozdormu.spi.utils.QualifierUtil.toQualifierMap;
+
+public class EventImpl<T> implements Event<T> {
+
+  private static final Map<List<Object>, ScopeEventObserver[]> OBSERVER_ROUTES =
+      new ConcurrentHashMap<>();
+
+  private static final Map<List<Object>, ScopeEventAsyncObserver[]> ASYNC_OBSERVER_ROUTES =
+      new ConcurrentHashMap<>();
+
+  private final Class<?> eventClass;
+  private final Map<String, Map<String, Object>> qualifiers;
+
+  private volatile ScopeEventObserver[] observers;
+  private volatile ScopeEventAsyncObserver[] asyncObservers;
+
+  public EventImpl() {
+    this(Object.class, Map.of());
+  }
+
+  public EventImpl(Map<String, Map<String, Object>> qualifiers) {
+    this(Object.class, qualifiers);
+  }
+
+  /**
+   * The routes of the declared event class are resolved once per instance, events of a subclass
+   * are routed by their runtime class.
+   */
+  public EventImpl(Class<?> eventClass, Map<String, Map<String, Object>> qualifiers) {
+    this.eventClass = eventClass;
+    this.qualifiers = qualifiers;
+  }
+
+  /**
+   * Transactional observers are buffered while a transaction is active on this thread and
+   * notified immediately otherwise, the others are always notified immediately.
+   */
+  @Override
+  public void fire(T event) {
+    ScopeEventObserver[] observers = getObservers(event);
+    TransactionEventBuffer transactionEventBuffer =
+        isTransactional(observers) ? TransactionEventBuffer.current().orElse(null) : null;
+    for (ScopeEventObserver observer : observers) {
+      if (transactionEventBuffer != null
+          && observer.getTransactionPhase() != TransactionPhase.IN_PROGRESS) {
+        transactionEventBuffer.add(observer, event);
+      } else {
+        observer.onEvent(event);
+      }
+    }
+  }
+
+  @Override
+  public <U extends T> CompletionStage<U> fireAsync(U event) {
+    return fireMono(event).toFuture();
+  }
+
+  @Override
+  public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
+    if (options == null) {
+      return fireAsync(event);
+    }
+    Object eventDispatcher = options.get(EventDispatcher.NOTIFICATION_OPTION);
+    Mono<U> mono =
+        eventDispatcher instanceof EventDispatcher
+            ? fireMono(event, (EventDispatcher) eventDispatcher)
+            : fireMono(event);
+    if (options.getExecutor() != null) {
+      mono = mono.subscribeOn(Schedulers.fromExecutor(options.getExecutor()));
+    }
+    return mono.toFuture();
+  }
+
+  public <U extends T> Mono<U> fireMono(U event) {
+    return fireMono(event, EventDispatcherHolder.INSTANCE.orElseGet(AsyncDelivery::getDefault));
+  }
+
+  public <U extends T> Mono<U> fireMono(U event, EventDispatcher eventDispatcher) {
+    return eventDispatcher
+        .deliver(getAsyncObservers(event), event)
+        .then(Mono.just(event));
+  }
+
+  @Override
+  public Event<T> select(Annotation... qualifiers) {
+    if (qualifiers == null || qualifiers.length == 0) {
+      return this;
+    }
+    return new EventImpl<>(eventClass, getQualifierMap(qualifiers));
+  }
+
+  @Override
+  public <U extends T> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
+    return new EventImpl<>(subtype, getQualifierMap(qualifiers));
+  }
+
+  @Override
+  public <U extends T> Event<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+    return select(subtype.getRawType(), qualifiers);
+  }
+
+  private Map<String, Map<String, Object>> getQualifierMap(Annotation... qualifiers) {
+    if (qualifiers == null || qualifiers.length == 0) {
+      return this.qualifiers;
+    }
+    Map<String, Map<String, Object>> qualifierMap = new HashMap<>(this.qualifiers);
+    qualifierMap.putAll(toQualifierMap(qualifiers));
+    return qualifierMap;
+  }
+
+  private ScopeEventObserver[] getObservers(Object event) {
+    Class<?> runtimeClass = eventClass(event);
+    if (runtimeClass != eventClass) {
+      return getObservers(runtimeClass, qualifiers);
+    }
+    ScopeEventObserver[] observers = this.observers;
+    if (observers == null) {
+      observers = getObservers(eventClass, qualifiers);
+      this.observers = observers;
+    }
+    return observers;
+  }
+
+  private ScopeEventAsyncObserver[] getAsyncObservers(Object event) {
+    Class<?> runtimeClass = eventClass(event);
+    if (runtimeClass != eventClass) {
+      return getAsyncObservers(runtimeClass, qualifiers);
+    }
+    ScopeEventAsyncObserver[] asyncObservers = this.asyncObservers;
+    if (asyncObservers == null) {
+      asyncObservers = getAsyncObservers(eventClass, qualifiers);
+      this.asyncObservers = asyncObservers;
+    }
+    return asyncObservers;
+  }
+
+  public static ScopeEventObserver[] getObservers(
+      Class<?> eventClass, Map<String, Map<String, Object>> qualifiers) {
+    return OBSERVER_ROUTES.computeIfAbsent(
+        List.of(eventClass, qualifiers),
+        key ->
+            getBeanSuppliers(ScopeEventObserver.class, qualifiers)
+                .map(beanSupplier -> (ScopeEventObserver) beanSupplier.getSupplier().get())
+                .filter(observer -> observer.getEventType().isAssignableFrom(eventClass))
+                .toArray(ScopeEventObserver[]::new));
+  }
+
+  public static ScopeEventAsyncObserver[] getAsyncObservers(
+      Class<?> eventClass, Map<String, Map<String, Object>> qualifiers) {
+    return ASYNC_OBSERVER_ROUTES.computeIfAbsent(
+        List.of(eventClass, qualifiers),
+        key ->
+            getBeanSuppliers(ScopeEventAsyncObserver.class, qualifiers)
+                .map(beanSupplier -> (ScopeEventAsyncObserver) beanSupplier.getSupplier().get())
+                .filter(observer -> observer.getEventType().isAssignableFrom(eventClass))
+                .toArray(ScopeEventAsyncObserver[]::new));
+  }
+
+  private static Stream<BeanSupplier> getBeanSuppliers(
+      Class<?> observerClass, Map<String, Map<String, Object>> qualifiers) {
+    return BeanContext.getImplSupplierMap(observerClass).values().stream()
+        .filter(beanSupplier -> containsAll(qualifiers, beanSupplier.getQualifiers()))
+        .sorted(
+            Comparator.comparing(
+                BeanSupplier::getPriority, Comparator.nullsLast(Integer::compareTo)));
+  }
+
+  private static boolean isTransactional(ScopeEventObserver[] observers) {
+    for (ScopeEventObserver observer : observers) {
+      if (observer.getTransactionPhase() != TransactionPhase.IN_PROGRESS) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Class<?> eventClass(Object event) {
+    if (event == null) {
+      throw new IllegalArgumentException("event must not be null");
+    }
+    return event.getClass();
+  }
+
+  private static class EventDispatcherHolder {
+    private static final Optional<EventDispatcher> INSTANCE =
+        BeanContext.getOptional(EventDispatcher.class);
+  }
+}
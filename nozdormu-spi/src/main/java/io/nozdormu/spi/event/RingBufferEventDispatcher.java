@@ -0,0 +1,416 @@
+package io.nozdormu.spi.event;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Multi-producer, single-consumer ring buffer. Producers claim a sequence, fill the pre-allocated
+ * slot and mark it available. The consumer thread drains contiguous available slots as one batch
+ * and calls non-reactive observers in place, without a Mono per observer. Delivery results are
+ * signalled on the completion scheduler, so code that continues from a delivery never runs on, and
+ * never stalls, the consumer thread.
+ */
+public class RingBufferEventDispatcher implements EventDispatcher, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(RingBufferEventDispatcher.class);
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+  public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+  private static final long MAX_PUBLISH_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  // one JVM shutdown hook drains every dispatcher that was not closed
+  private static final Set<RingBufferEventDispatcher> OPEN_DISPATCHERS =
+      ConcurrentHashMap.newKeySet();
+  private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
+  private final int bufferSize;
+  private final int mask;
+  private final int indexShift;
+  private final int maxBatchSize;
+  private final WaitStrategy waitStrategy;
+  private final Scheduler completionScheduler;
+
+  private final Object[] events;
+  private final ScopeEventAsyncObserver[][] observers;
+  private final Object[] sinks;
+  private final AtomicIntegerArray available;
+
+  private final AtomicLong claimSequence = new AtomicLong(-1);
+  private final AtomicLong consumerSequence = new AtomicLong(-1);
+  private final Thread consumer;
+  // producers between the running check and marking their slot available
+  private final AtomicInteger publishing = new AtomicInteger();
+  private volatile boolean running = true;
+  // owned by the consumer thread, flushed to the completion scheduler once per batch
+  private List<Runnable> completions = new ArrayList<>();
+
+  public RingBufferEventDispatcher() {
+    this(DEFAULT_BUFFER_SIZE, WaitStrategy.blocking());
+  }
+
+  public RingBufferEventDispatcher(int bufferSize, WaitStrategy waitStrategy) {
+    this(bufferSize, DEFAULT_MAX_BATCH_SIZE, waitStrategy);
+  }
+
+  public RingBufferEventDispatcher(int bufferSize, int maxBatchSize, WaitStrategy waitStrategy) {
+    this(bufferSize, maxBatchSize, waitStrategy, Schedulers.boundedElastic());
+  }
+
+  public RingBufferEventDispatcher(
+      int bufferSize,
+      int maxBatchSize,
+      WaitStrategy waitStrategy,
+      Scheduler completionScheduler) {
+    if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+      throw new IllegalArgumentException("bufferSize must be a power of 2: " + bufferSize);
+    }
+    this.bufferSize = bufferSize;
+    this.mask = bufferSize - 1;
+    this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.waitStrategy = waitStrategy;
+    this.completionScheduler = completionScheduler;
+    this.events = new Object[bufferSize];
+    this.observers = new ScopeEventAsyncObserver[bufferSize][];
+    this.sinks = new Object[bufferSize];
+    this.available = new AtomicIntegerArray(bufferSize);
+    for (int index = 0; index < bufferSize; index++) {
+      available.set(index, -1);
+    }
+    this.consumer = new Thread(this::consume, "nozdormu-event-ring");
+    this.consumer.setDaemon(true);
+    this.consumer.start();
+    OPEN_DISPATCHERS.add(this);
+    if (SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) {
+      Runtime.getRuntime()
+          .addShutdownHook(
+              new Thread(
+                  RingBufferEventDispatcher::shutdownAll, "nozdormu-event-ring-shutdown"));
+    }
+  }
+
+  @Override
+  public Mono<Void> deliver(ScopeEventAsyncObserver[] observers, Object event) {
+    if (observers.length == 0) {
+      return Mono.empty();
+    }
+    return Mono.create(sink -> publish(observers, event, sink));
+  }
+
+  /** Fire-and-forget publication, failures are logged by the consumer. */
+  public void publish(ScopeEventAsyncObserver[] observers, Object event) {
+    if (observers.length > 0) {
+      publish(observers, event, null);
+    }
+  }
+
+  private void publish(ScopeEventAsyncObserver[] observers, Object event, MonoSink<Void> sink) {
+    publishing.incrementAndGet();
+    try {
+      if (!running) {
+        throw new IllegalStateException("event dispatcher is closed");
+      }
+      long sequence;
+      if (Thread.currentThread() == consumer) {
+        // an observer publishing from the consumer thread can't wait for a slot it has to free
+        long current;
+        do {
+          current = claimSequence.get();
+          if (current + 1 - bufferSize > consumerSequence.get()) {
+            dispatch(observers, event, sink);
+            return;
+          }
+        } while (!claimSequence.compareAndSet(current, current + 1));
+        sequence = current + 1;
+      } else {
+        sequence = claimSequence.incrementAndGet();
+        awaitSlot(sequence - bufferSize);
+      }
+      int index = (int) sequence & mask;
+      this.events[index] = event;
+      this.observers[index] = observers;
+      this.sinks[index] = sink;
+      available.lazySet(index, (int) (sequence >>> indexShift));
+      waitStrategy.signalAll();
+    } finally {
+      publishing.decrementAndGet();
+    }
+  }
+
+  /** the ring is full, spin shortly, then yield and park with a doubling delay up to 1ms */
+  private void awaitSlot(long wrapPoint) {
+    int spins = 100;
+    long parkNanos = 1000;
+    while (wrapPoint > consumerSequence.get()) {
+      if (spins > 50) {
+        spins--;
+        Thread.onSpinWait();
+      } else if (spins > 0) {
+        spins--;
+        Thread.yield();
+      } else {
+        LockSupport.parkNanos(parkNanos);
+        parkNanos = Math.min(parkNanos << 1, MAX_PUBLISH_PARK_NANOS);
+      }
+    }
+  }
+
+  private boolean isAvailable(long sequence) {
+    return available.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+  }
+
+  private void consume() {
+    long next = consumerSequence.get() + 1;
+    while (running || publishing.get() > 0 || next <= claimSequence.get()) {
+      if (!isAvailable(next)) {
+        if (running) {
+          long waitSequence = next;
+          waitStrategy.waitFor(() -> isAvailable(waitSequence) || !running);
+        } else {
+          // closing, a producer that passed the running check is still filling its slot
+          Thread.yield();
+        }
+        if (!isAvailable(next)) {
+          continue;
+        }
+      }
+      long high = next;
+      while (high - next + 1 < maxBatchSize && isAvailable(high + 1)) {
+        high++;
+      }
+      for (long sequence = next; sequence <= high; sequence++) {
+        handle((int) sequence & mask);
+      }
+      consumerSequence.lazySet(high);
+      flushCompletions();
+      next = high + 1;
+    }
+  }
+
+  private void flushCompletions() {
+    if (completions.isEmpty()) {
+      return;
+    }
+    List<Runnable> batch = completions;
+    completions = new ArrayList<>();
+    completionScheduler.schedule(() -> batch.forEach(Runnable::run));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void handle(int index) {
+    Object event = events[index];
+    ScopeEventAsyncObserver[] eventObservers = observers[index];
+    MonoSink<Void> sink = (MonoSink<Void>) sinks[index];
+    events[index] = null;
+    observers[index] = null;
+    sinks[index] = null;
+    dispatch(eventObservers, event, sink);
+  }
+
+  private void dispatch(
+      ScopeEventAsyncObserver[] eventObservers, Object event, MonoSink<Void> sink) {
+    List<Mono<Void>> reactiveNotifications = null;
+    List<Throwable> errors = null;
+    for (ScopeEventAsyncObserver observer : eventObservers) {
+      try {
+        if (observer.isReactive()) {
+          if (reactiveNotifications == null) {
+            reactiveNotifications = new ArrayList<>();
+          }
+          reactiveNotifications.add(observer.onEventAsync(event));
+        } else {
+          observer.onEvent(event);
+        }
+      } catch (Throwable throwable) {
+        if (errors == null) {
+          errors = new ArrayList<>();
+        }
+        errors.add(throwable);
+      }
+    }
+    if (reactiveNotifications == null) {
+      if (sink != null || errors != null) {
+        List<Throwable> observerErrors = errors;
+        completions.add(() -> complete(sink, event, observerErrors));
+      }
+    } else {
+      List<Throwable> reactiveErrors = errors == null ? new ArrayList<>() : errors;
+      Flux.fromIterable(reactiveNotifications)
+          .flatMap(
+              notification ->
+                  notification.onErrorResume(
+                      error -> {
+                        synchronized (reactiveErrors) {
+                          reactiveErrors.add(error);
+                        }
+                        return Mono.empty();
+                      }))
+          .subscribe(
+              null,
+              null,
+              () -> completionScheduler.schedule(() -> complete(sink, event, reactiveErrors)));
+    }
+  }
+
+  private void complete(MonoSink<Void> sink, Object event, List<Throwable> errors) {
+    if (errors == null || errors.isEmpty()) {
+      if (sink != null) {
+        sink.success();
+      }
+      return;
+    }
+    CompletionException completionException =
+        new CompletionException(
+            errors.size() + " observer(s) failed for event: " + event, errors.get(0));
+    errors.stream().skip(1).forEach(completionException::addSuppressed);
+    if (sink != null) {
+      sink.error(completionException);
+    } else {
+      logger.error("ring buffer observer notification failed", completionException);
+    }
+  }
+
+  /**
+   * Stops accepting events and waits for the events already published, including publications
+   * still in progress, to be delivered.
+   */
+  @PreDestroy
+  @Override
+  public void close() {
+    OPEN_DISPATCHERS.remove(this);
+    stop();
+    awaitConsumer();
+  }
+
+  private static void shutdownAll() {
+    List<RingBufferEventDispatcher> dispatchers = new ArrayList<>(OPEN_DISPATCHERS);
+    dispatchers.forEach(RingBufferEventDispatcher::stop);
+    dispatchers.forEach(RingBufferEventDispatcher::awaitConsumer);
+  }
+
+  private void stop() {
+    running = false;
+    waitStrategy.signalAll();
+  }
+
+  private void awaitConsumer() {
+    if (Thread.currentThread() == consumer) {
+      return;
+    }
+    try {
+      consumer.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public interface WaitStrategy {
+
+    void waitFor(BooleanSupplier condition);
+
+    default void signalAll() {}
+
+    static WaitStrategy busySpin() {
+      return condition -> {
+        while (!condition.getAsBoolean()) {
+          Thread.onSpinWait();
+        }
+      };
+    }
+
+    static WaitStrategy yielding() {
+      return condition -> {
+        int spins = 100;
+        while (!condition.getAsBoolean()) {
+          if (spins > 0) {
+            spins--;
+            Thread.onSpinWait();
+          } else {
+            Thread.yield();
+          }
+        }
+      };
+    }
+
+    static WaitStrategy sleeping(long sleepNanos) {
+      return condition -> {
+        int spins = 200;
+        while (!condition.getAsBoolean()) {
+          if (spins > 100) {
+            spins--;
+            Thread.onSpinWait();
+          } else if (spins > 0) {
+            spins--;
+            Thread.yield();
+          } else {
+            LockSupport.parkNanos(sleepNanos);
+          }
+        }
+      };
+    }
+
+    static WaitStrategy blocking() {
+      return new BlockingWaitStrategy();
+    }
+  }
+
+  private static class BlockingWaitStrategy implements WaitStrategy {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition processorNotifyCondition = lock.newCondition();
+    private volatile boolean waiting;
+
+    @Override
+    public void waitFor(BooleanSupplier condition) {
+      if (condition.getAsBoolean()) {
+        return;
+      }
+      lock.lock();
+      try {
+        waiting = true;
+        while (!condition.getAsBoolean()) {
+          processorNotifyCondition.await(1, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        waiting = false;
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void signalAll() {
+      if (waiting) {
+        lock.lock();
+        try {
+          processorNotifyCondition.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+}
@@ -4,6 +4,14 @@ import reactor.core.publisher.Mono;
 
 public interface ScopeEventAsyncObserver {
 
+  default Class<?> getEventType() {
+    return Object.class;
+  }
+
+  default boolean isReactive() {
+    return false;
+  }
+
   default void onEvent(Object event) {}
 
   default Mono<Void> onEventAsync(Object event) {
@@ -1,9 +1,22 @@
 package io.nozdormu.spi.event;
 
+import jakarta.enterprise.event.TransactionPhase;
 import reactor.core.publisher.Mono;
 
 public interface ScopeEventObserver {
 
+  default Class<?> getEventType() {
+    return Object.class;
+  }
+
+  default boolean isReactive() {
+    return false;
+  }
+
+  default TransactionPhase getTransactionPhase() {
+    return TransactionPhase.IN_PROGRESS;
+  }
+
   default void onEvent(Object event) {}
 
   default Mono<Void> onEventAsync(Object event) {
@@ -9,28 +9,27 @@ import reactor.core.publisher.Mono;
 
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class ScopeEventPublisher {
 
+  private static final Map<List<Class<?>>, ScopeEventObserver[]> OBSERVERS =
+      new ConcurrentHashMap<>();
+
+  private static final Map<List<Class<?>>, ScopeEventAsyncObserver[]> ASYNC_OBSERVERS =
+      new ConcurrentHashMap<>();
+
+  private ScopeEventPublisher() {}
+
   public static Mono<Void> initialized(Class<? extends Annotation> scope) {
     return initialized(new HashMap<>(), scope);
   }
 
   public static Mono<Void> initialized(
       Map<String, Object> context, Class<? extends Annotation> scope) {
-    return Flux.merge(
-            Flux.fromIterable(
-                    BeanContext.getList(
-                        ScopeEventAsyncObserver.class,
-                        Map.of(Initialized.class.getName(), Map.of("value", scope))))
-                .flatMap(scopeEventAsyncObserver -> scopeEventAsyncObserver.onEventAsync(context)),
-            Flux.fromIterable(
-                    BeanContext.getList(
-                        ScopeEventObserver.class,
-                        Map.of(Initialized.class.getName(), Map.of("value", scope))))
-                .concatMap(scopeEventObserver -> scopeEventObserver.onEventAsync(context)))
-        .then();
+    return publish(Initialized.class, context, scope);
   }
 
   public static Mono<Void> beforeDestroyed(Class<? extends Annotation> scope) {
@@ -39,18 +38,7 @@ public final class ScopeEventPublisher {
 
   public static Mono<Void> beforeDestroyed(
       Map<String, Object> context, Class<? extends Annotation> scope) {
-    return Flux.merge(
-            Flux.fromIterable(
-                    BeanContext.getList(
-                        ScopeEventAsyncObserver.class,
-                        Map.of(BeforeDestroyed.class.getName(), Map.of("value", scope))))
-                .flatMap(scopeEventAsyncObserver -> scopeEventAsyncObserver.onEventAsync(context)),
-            Flux.fromIterable(
-                    BeanContext.getList(
-                        ScopeEventObserver.class,
-                        Map.of(BeforeDestroyed.class.getName(), Map.of("value", scope))))
-                .concatMap(scopeEventObserver -> scopeEventObserver.onEventAsync(context)))
-        .then();
+    return publish(BeforeDestroyed.class, context, scope);
   }
 
   public static Mono<Void> destroyed(Class<? extends Annotation> scope) {
@@ -59,17 +47,54 @@ public final class ScopeEventPublisher {
 
   public static Mono<Void> destroyed(
       Map<String, Object> context, Class<? extends Annotation> scope) {
-    return Flux.merge(
-            Flux.fromIterable(
-                    BeanContext.getList(
+    return publish(Destroyed.class, context, scope);
+  }
+
+  private static Mono<Void> publish(
+      Class<? extends Annotation> phase,
+      Map<String, Object> context,
+      Class<? extends Annotation> scope) {
+    ScopeEventAsyncObserver[] asyncObservers =
+        ASYNC_OBSERVERS.computeIfAbsent(
+            List.of(phase, scope),
+            key ->
+                BeanContext.getList(
                         ScopeEventAsyncObserver.class,
-                        Map.of(Destroyed.class.getName(), Map.of("value", scope))))
-                .flatMap(scopeEventAsyncObserver -> scopeEventAsyncObserver.onEventAsync(context)),
-            Flux.fromIterable(
-                    BeanContext.getList(
-                        ScopeEventObserver.class,
-                        Map.of(Destroyed.class.getName(), Map.of("value", scope))))
-                .concatMap(scopeEventObserver -> scopeEventObserver.onEventAsync(context)))
+                        Map.of(phase.getName(), Map.of("value", scope)))
+                    .toArray(new ScopeEventAsyncObserver[0]));
+    ScopeEventObserver[] observers =
+        OBSERVERS.computeIfAbsent(
+            List.of(phase, scope),
+            key ->
+                BeanContext.getList(
+                        ScopeEventObserver.class, Map.of(phase.getName(), Map.of("value", scope)))
+                    .toArray(new ScopeEventObserver[0]));
+    if (asyncObservers.length == 0 && observers.length == 0) {
+      return Mono.empty();
+    } else if (asyncObservers.length == 0) {
+      return notify(observers, 0, context);
+    } else if (observers.length == 0) {
+      return AsyncDelivery.getDefault().deliver(asyncObservers, context);
+    }
+    return Flux.merge(
+            AsyncDelivery.getDefault().deliver(asyncObservers, context),
+            notify(observers, 0, context))
         .then();
   }
+
+  private static Mono<Void> notify(ScopeEventObserver[] observers, int from, Object context) {
+    return Mono.defer(
+        () -> {
+          for (int index = from; index < observers.length; index++) {
+            if (observers[index].isReactive()) {
+              int next = index + 1;
+              return observers[index]
+                  .onEventAsync(context)
+                  .then(notify(observers, next, context));
+            }
+            observers[index].onEvent(context);
+          }
+          return Mono.empty();
+        });
+  }
 }
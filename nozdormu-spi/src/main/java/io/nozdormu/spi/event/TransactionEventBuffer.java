@@ -0,0 +1,120 @@
+package io.nozdormu.spi.event;
+
+import io.nozdormu.spi.context.BeanContext;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Events for transactional observers, buffered per JTA transaction and delivered in firing order
+ * when it completes. The buffer is a resource of the {@link TransactionSynchronizationRegistry}
+ * and is registered as an interposed synchronization by the first transactional event. A
+ * BEFORE_COMPLETION observer that throws vetoes the commit, failures of the after completion
+ * phases are logged.
+ */
+public class TransactionEventBuffer implements Synchronization {
+
+  private static final Logger logger = LoggerFactory.getLogger(TransactionEventBuffer.class);
+
+  private final List<ScopeEventObserver> observers = new ArrayList<>();
+  private final List<Object> events = new ArrayList<>();
+
+  /** the buffer of the transaction active on this thread, empty outside a transaction */
+  public static Optional<TransactionEventBuffer> current() {
+    return TransactionSynchronizationRegistryHolder.INSTANCE
+        .filter(registry -> registry.getTransactionStatus() == Status.STATUS_ACTIVE)
+        .map(
+            registry -> {
+              TransactionEventBuffer transactionEventBuffer =
+                  (TransactionEventBuffer) registry.getResource(TransactionEventBuffer.class);
+              if (transactionEventBuffer == null) {
+                transactionEventBuffer = new TransactionEventBuffer();
+                registry.registerInterposedSynchronization(transactionEventBuffer);
+                registry.putResource(TransactionEventBuffer.class, transactionEventBuffer);
+              }
+              return transactionEventBuffer;
+            });
+  }
+
+  public synchronized void add(ScopeEventObserver observer, Object event) {
+    observers.add(observer);
+    events.add(event);
+  }
+
+  public synchronized int size() {
+    return events.size();
+  }
+
+  @Override
+  public void beforeCompletion() {
+    for (Notification notification :
+        drain(phase -> phase == TransactionPhase.BEFORE_COMPLETION, false)) {
+      notification.observer.onEvent(notification.event);
+    }
+  }
+
+  @Override
+  public void afterCompletion(int status) {
+    boolean committed = status == Status.STATUS_COMMITTED;
+    List<Notification> notifications =
+        drain(
+            phase ->
+                phase == TransactionPhase.AFTER_COMPLETION
+                    || phase == TransactionPhase.AFTER_SUCCESS && committed
+                    || phase == TransactionPhase.AFTER_FAILURE && !committed,
+            true);
+    for (Notification notification : notifications) {
+      try {
+        notification.observer.onEvent(notification.event);
+      } catch (RuntimeException e) {
+        logger.error("transactional observer notification failed: {}", notification.event, e);
+      }
+    }
+  }
+
+  private synchronized List<Notification> drain(
+      Predicate<TransactionPhase> phaseFilter, boolean completed) {
+    List<Notification> notifications = new ArrayList<>();
+    for (int index = 0; index < observers.size(); index++) {
+      if (phaseFilter.test(observers.get(index).getTransactionPhase())) {
+        notifications.add(new Notification(observers.get(index), events.get(index)));
+        observers.set(index, null);
+      }
+    }
+    if (completed) {
+      observers.clear();
+      events.clear();
+    } else {
+      for (int index = observers.size() - 1; index >= 0; index--) {
+        if (observers.get(index) == null) {
+          observers.remove(index);
+          events.remove(index);
+        }
+      }
+    }
+    return notifications;
+  }
+
+  private static class Notification {
+    private final ScopeEventObserver observer;
+    private final Object event;
+
+    private Notification(ScopeEventObserver observer, Object event) {
+      this.observer = observer;
+      this.event = event;
+    }
+  }
+
+  private static class TransactionSynchronizationRegistryHolder {
+    private static final Optional<TransactionSynchronizationRegistry> INSTANCE =
+        BeanContext.getOptional(TransactionSynchronizationRegistry.class);
+  }
+}
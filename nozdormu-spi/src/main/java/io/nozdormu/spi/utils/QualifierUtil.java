@@ -4,6 +4,7 @@ import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public final class QualifierUtil {
 
@@ -30,4 +31,20 @@ public final class QualifierUtil {
     }
     return qualifierMap;
   }
+
+  public static boolean containsAll(
+      Map<String, Map<String, Object>> qualifiers, Map<String, Map<String, Object>> required) {
+    return required.entrySet().stream()
+        .allMatch(
+            requiredEntry ->
+                qualifiers.containsKey(requiredEntry.getKey())
+                    && requiredEntry.getValue().entrySet().stream()
+                        .allMatch(
+                            attributeEntry ->
+                                Objects.equals(
+                                    attributeEntry.getValue(),
+                                    qualifiers
+                                        .get(requiredEntry.getKey())
+                                        .get(attributeEntry.getKey()))));
+  }
 }
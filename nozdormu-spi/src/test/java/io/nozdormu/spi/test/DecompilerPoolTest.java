@@ -0,0 +1,134 @@
+package io.nozdormu.spi.test;
+
+import io.nozdormu.spi.decompiler.DecompilerPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DecompilerPoolTest {
+
+  @Test
+  void testComputeOnce() throws Exception {
+    DecompilerPool decompilerPool = new DecompilerPool();
+    AtomicInteger computations = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      Future<String> first =
+          executorService.submit(
+              () ->
+                  decompilerPool.computeOnce(
+                      List.of("decompiler", "a.jar"),
+                      () -> {
+                        computations.incrementAndGet();
+                        started.countDown();
+                        await(finish);
+                        return "decompiled";
+                      }));
+      assertTrue(started.await(1, TimeUnit.SECONDS));
+      List<Future<String>> waiting =
+          List.of(
+              executorService.submit(() -> computeOnce(decompilerPool, computations)),
+              executorService.submit(() -> computeOnce(decompilerPool, computations)),
+              executorService.submit(() -> computeOnce(decompilerPool, computations)));
+      finish.countDown();
+      assertEquals(first.get(1, TimeUnit.SECONDS), "decompiled");
+      for (Future<String> future : waiting) {
+        assertSame(future.get(1, TimeUnit.SECONDS), first.get());
+      }
+      assertEquals(computeOnce(decompilerPool, computations), "decompiled");
+      assertEquals(computations.get(), 1);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void testComputeOnceRetry() {
+    DecompilerPool decompilerPool = new DecompilerPool();
+    AtomicInteger computations = new AtomicInteger();
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            decompilerPool.computeOnce(
+                "b.jar",
+                () -> {
+                  computations.incrementAndGet();
+                  throw new IllegalStateException("broken jar");
+                }));
+    assertEquals(
+        decompilerPool.computeOnce(
+            "b.jar",
+            () -> {
+              computations.incrementAndGet();
+              return "decompiled";
+            }),
+        "decompiled");
+    assertEquals(computations.get(), 2);
+  }
+
+  @Test
+  void testJarFile(@TempDir Path dir) throws IOException {
+    Path jar = dir.resolve("lib/classes.jar");
+    Files.createDirectories(jar.getParent());
+    try (OutputStream outputStream = Files.newOutputStream(jar);
+        JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+      jarOutputStream.putNextEntry(new JarEntry("io/nozdormu/Sample.class"));
+      jarOutputStream.write(new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+      jarOutputStream.closeEntry();
+    }
+
+    DecompilerPool decompilerPool = new DecompilerPool();
+    JarFile jarFile = decompilerPool.getJarFile(jar);
+    assertSame(decompilerPool.getJarFile(dir.resolve("lib/../lib/classes.jar")), jarFile);
+    assertNotNull(jarFile.getEntry("io/nozdormu/Sample.class"));
+    DecompilerPool otherDecompilerPool = new DecompilerPool();
+    assertNotSame(otherDecompilerPool.getJarFile(jar), jarFile);
+    otherDecompilerPool.close();
+
+    decompilerPool.computeOnce("classes.jar", () -> "decompiled");
+    decompilerPool.close();
+    assertThrows(IllegalStateException.class, () -> jarFile.getEntry("io/nozdormu/Sample.class"));
+    assertEquals(
+        decompilerPool.computeOnce("classes.jar", () -> "decompiled again"), "decompiled again");
+
+    JarFile reopened = decompilerPool.getJarFile(jar);
+    assertNotSame(reopened, jarFile);
+    assertNotNull(reopened.getEntry("io/nozdormu/Sample.class"));
+    decompilerPool.close();
+  }
+
+  private String computeOnce(DecompilerPool decompilerPool, AtomicInteger computations) {
+    return decompilerPool.computeOnce(
+        List.of("decompiler", "a.jar"),
+        () -> {
+          computations.incrementAndGet();
+          return "decompiled twice";
+        });
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(1, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}